@@ -0,0 +1,59 @@
+package com.anugrahatwork.anukit.bench;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.resilience.CircuitBreaker;
+import com.anugrahatwork.anukit.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-state overhead of a shared {@link CircuitBreaker} against a bare {@link AnuKit#tryWrap},
+ * and the cost of a rejection while open. Runs with 4 threads to include contention on the counters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+
+    private final CircuitBreaker closed = CircuitBreaker.failureRate(0.5);
+    private final CircuitBreaker open = CircuitBreaker.failureRate(0.5)
+            .withMinimumCalls(1)
+            .withOpenDuration(1, TimeUnit.HOURS);
+
+    private final String input = "12345";
+
+    {
+        open.call(() -> {
+            throw new IllegalStateException("down");
+        });
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> tryWrapBaseline() {
+        return AnuKit.tryWrap(() -> Integer.parseInt(input));
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> closedBreaker() {
+        return AnuKit.tryWrap(() -> Integer.parseInt(input), closed);
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> openBreaker() {
+        return AnuKit.tryWrap(() -> Integer.parseInt(input), open);
+    }
+}
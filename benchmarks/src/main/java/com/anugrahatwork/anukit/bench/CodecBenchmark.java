@@ -0,0 +1,78 @@
+package com.anugrahatwork.anukit.bench;
+
+import com.anugrahatwork.anukit.codec.ResultCodec;
+import com.anugrahatwork.anukit.codec.ValueCodec;
+import com.anugrahatwork.anukit.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of an {@code ok} and an {@code err} result through {@link ResultCodec} into a reused direct buffer,
+ * against Java serialization of the same value or exception.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    private final ResultCodec<String, Exception> codec = ResultCodec.of(ValueCodec.strings());
+    private final Result<String, Exception> ok = Result.ok("user:12345:active");
+    private final IOException error = new IOException("connection refused");
+    private final Result<String, Exception> err = Result.<String, Exception>err(error).withContext("fetch user {}", 12345);
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+
+    @Benchmark
+    public Result<String, Exception> codecOk() {
+        return roundTrip(ok);
+    }
+
+    @Benchmark
+    public Result<String, Exception> codecErr() {
+        return roundTrip(err);
+    }
+
+    @Benchmark
+    public Object serializationOk() throws Exception {
+        return javaRoundTrip(ok.unwrapOrThrow());
+    }
+
+    @Benchmark
+    public Object serializationErr() throws Exception {
+        return javaRoundTrip(error);
+    }
+
+    private Result<String, Exception> roundTrip(Result<String, Exception> result) {
+        buffer.clear();
+        codec.encode(result, buffer);
+        buffer.flip();
+        return codec.decode(buffer);
+    }
+
+    private static Object javaRoundTrip(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.anugrahatwork.anukit.bench;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.metrics.Metrics;
+import com.anugrahatwork.anukit.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of an instrumented {@link AnuKit#tryWrap} with {@link Metrics} disabled and enabled,
+ * against the uninstrumented call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private final String input = "12345";
+    private final AnuKit.CheckedSupplier<Integer> instrumented =
+            Metrics.instrument("parse", () -> Integer.parseInt(input));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Metrics.setEnabled(enabled);
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> uninstrumented() {
+        return AnuKit.tryWrap(() -> Integer.parseInt(input));
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> instrumented() {
+        return AnuKit.tryWrap(instrumented);
+    }
+}
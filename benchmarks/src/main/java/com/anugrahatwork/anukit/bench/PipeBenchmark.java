@@ -0,0 +1,96 @@
+package com.anugrahatwork.anukit.bench;
+
+import com.anugrahatwork.anukit.Pipe;
+import com.anugrahatwork.anukit.PipeTemplate;
+import com.anugrahatwork.anukit.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a five-stage {@link Pipe} and {@link PipeTemplate} against the same stages called directly
+ * inside one try/catch.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PipeBenchmark {
+
+    private static final PipeTemplate<String, String> TEMPLATE = PipeTemplate.<String>start()
+            .then(String::trim)
+            .then(String::toUpperCase)
+            .then(s -> s.replace('-', '_'))
+            .then(s -> s + "!")
+            .then(s -> s.substring(1));
+
+    private String input = " anu-kit ";
+
+    @Benchmark
+    public Result<String, Exception> pipeFiveStages() {
+        return Pipe.of(input)
+                .then(String::trim)
+                .then(String::toUpperCase)
+                .then(s -> s.replace('-', '_'))
+                .then(s -> s + "!")
+                .then(s -> s.substring(1))
+                .getResult();
+    }
+
+    @Benchmark
+    public Result<String, Exception> pipeFailsAtFirstStage() {
+        return Pipe.of(input)
+                .then(s -> {
+                    throw new IllegalStateException("boom");
+                })
+                .then(String::toUpperCase)
+                .then(s -> s.replace('-', '_'))
+                .then(s -> s + "!")
+                .then(s -> s.substring(1))
+                .getResult();
+    }
+
+    @Benchmark
+    public Result<Integer, Exception> pipeTypeChangingStages() {
+        return Pipe.of(input)
+                .then(String::trim)
+                .map(String::length)
+                .map(i -> i * 31)
+                .filter(i -> i > 0)
+                .map(i -> i + 1)
+                .getResult();
+    }
+
+    @Benchmark
+    public Result<String, Exception> templateFiveStages() {
+        return TEMPLATE.run(input);
+    }
+
+    @Benchmark
+    public String templateFiveStagesRaw() {
+        return TEMPLATE.applyOr(input, null);
+    }
+
+    @Benchmark
+    public String directFiveStages() {
+        try {
+            String s = input.trim();
+            s = s.toUpperCase();
+            s = s.replace('-', '_');
+            s = s + "!";
+            return s.substring(1);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.anugrahatwork.anukit.bench;
+
+import com.anugrahatwork.anukit.result.Result;
+import com.anugrahatwork.anukit.result.StackTraceMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction and access cost of {@link Result} in each state.
+ * <p>
+ * Run with {@code -prof gc} to check whether escape analysis removes the allocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    private static final StackTraceMode SAMPLED = StackTraceMode.sampled(100);
+
+    private final String value = "value";
+    private final Exception error = new IllegalArgumentException("invalid");
+
+    @Benchmark
+    public Result<String, Exception> okEscaping() {
+        return Result.ok(value);
+    }
+
+    @Benchmark
+    public String okUnwrapped() {
+        return Result.<String, Exception>ok(value).unwrapOrThrow();
+    }
+
+    @Benchmark
+    public Result<String, Exception> okNull() {
+        return Result.ok(null);
+    }
+
+    @Benchmark
+    public Result<String, Exception> errEscaping() {
+        return Result.err(error);
+    }
+
+    @Benchmark
+    public boolean errChecked() {
+        return Result.<String, Exception>err(error).isErr();
+    }
+
+    @Benchmark
+    public Result<String, Exception> none() {
+        return Result.none();
+    }
+
+    @Benchmark
+    public Result<String, Exception> errIntercepted() {
+        return Result.<String, Exception>err(error).intercept("while loading user");
+    }
+
+    @Benchmark
+    public void errUnwrapFullTrace(Blackhole bh) {
+        unwrap(bh, StackTraceMode.FULL);
+    }
+
+    @Benchmark
+    public void errUnwrapStackless(Blackhole bh) {
+        unwrap(bh, StackTraceMode.NONE);
+    }
+
+    @Benchmark
+    public void errUnwrapSampled(Blackhole bh) {
+        unwrap(bh, SAMPLED);
+    }
+
+    private void unwrap(Blackhole bh, StackTraceMode mode) {
+        try {
+            bh.consume(Result.<String, Exception>err(error).unwrapOrThrow(null, mode));
+        } catch (RuntimeException e) {
+            bh.consume(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.anugrahatwork.anukit.bench;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Throughput of {@link AnuKit.ResultStreamHolder#mapSafe} over a list with a configurable share of bad records.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ResultStreamHolderBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    /**
+     * Every n-th element is unparseable; 0 means all elements are valid.
+     */
+    @Param({"0", "100", "2"})
+    private int errorEvery;
+
+    private List<String> input;
+
+    @Setup
+    public void setUp() {
+        input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(errorEvery > 0 && i % errorEvery == 0 ? "x" + i : Integer.toString(i));
+        }
+    }
+
+    @Benchmark
+    public List<Result<Integer, Exception>> mapSafe() {
+        return AnuKit.wrapList(input)
+                .mapSafe(Integer::parseInt)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Result<Integer, Exception>> mapSafeParallel() {
+        return AnuKit.wrapList(input)
+                .mapSafeParallel(Integer::parseInt)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> streamWithTryCatch() {
+        return input.stream()
+                .map(s -> {
+                    try {
+                        return Integer.parseInt(s);
+                    } catch (Exception e) {
+                        return null;
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,113 @@
+package com.anugrahatwork.anukit.bench;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ok-path and err-path cost of {@link AnuKit#tryWrap} against a plain try/catch and an {@link Optional} baseline.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class TryWrapBenchmark {
+
+    private static final IllegalStateException PREALLOCATED = new IllegalStateException("preallocated");
+
+    private String input = "12345";
+    private String badInput = "12x45";
+
+    // ====== Ok path ======
+
+    @Benchmark
+    public Result<Integer, Exception> tryWrapOk() {
+        return AnuKit.tryWrap(() -> Integer.parseInt(input));
+    }
+
+    @Benchmark
+    public int tryCatchOk() {
+        try {
+            return Integer.parseInt(input);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalOk() {
+        try {
+            return Optional.of(Integer.parseInt(input));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    @Benchmark
+    public int safeMapOk() {
+        return AnuKit.safeMap(input, -1, Integer::parseInt);
+    }
+
+    // ====== Err path ======
+
+    @Benchmark
+    public Result<Integer, Exception> tryWrapErr() {
+        return AnuKit.tryWrap(() -> Integer.parseInt(badInput));
+    }
+
+    @Benchmark
+    public int tryCatchErr() {
+        try {
+            return Integer.parseInt(badInput);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalErr() {
+        try {
+            return Optional.of(Integer.parseInt(badInput));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Err path without the cost of filling in a stack trace, to isolate the wrapping overhead.
+     */
+    @Benchmark
+    public Result<Integer, Exception> tryWrapErrPreallocated() {
+        return AnuKit.tryWrap(() -> {
+            throw PREALLOCATED;
+        });
+    }
+
+    @Benchmark
+    public void tryWrapErrUnwrap(Blackhole bh) {
+        Result<Integer, Exception> result = AnuKit.tryWrap(() -> {
+            throw PREALLOCATED;
+        });
+        try {
+            bh.consume(result.unwrapOrThrow());
+        } catch (RuntimeException e) {
+            bh.consume(e);
+        }
+    }
+}
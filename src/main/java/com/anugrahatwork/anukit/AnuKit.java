@@ -2,16 +2,50 @@ package com.anugrahatwork.anukit;
 
 import lombok.AllArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import com.anugrahatwork.anukit.cache.ResultCache;
+import com.anugrahatwork.anukit.metrics.Metrics;
+import com.anugrahatwork.anukit.resilience.AllAttemptsFailedException;
+import com.anugrahatwork.anukit.resilience.Bulkhead;
+import com.anugrahatwork.anukit.resilience.CallNotPermittedException;
+import com.anugrahatwork.anukit.resilience.CircuitBreaker;
+import com.anugrahatwork.anukit.resilience.HedgePolicy;
+import com.anugrahatwork.anukit.resilience.RateLimiter;
+import com.anugrahatwork.anukit.resilience.RetryPolicy;
+import com.anugrahatwork.anukit.result.DoubleResult;
+import com.anugrahatwork.anukit.result.IntResult;
+import com.anugrahatwork.anukit.result.LongResult;
+import com.anugrahatwork.anukit.result.Partition;
 import com.anugrahatwork.anukit.result.Result;
+import com.anugrahatwork.anukit.result.Results;
 
 /**
  * AnuKit – Functional-style helper utilities for exception-safe and asynchronous Java programming.
  */
 public class AnuKit {
 
+    private static volatile Executor defaultExecutor = DefaultExecutor.create();
+
     // ========== FUNCTIONAL INTERFACES ==========
 
     /**
@@ -38,6 +72,30 @@ public class AnuKit {
     }
 
 
+    /**
+     * A supplier of {@code int} values that can throw checked exceptions.
+     */
+    @FunctionalInterface
+    public interface CheckedIntSupplier {
+        int get() throws Exception;
+    }
+
+    /**
+     * A supplier of {@code long} values that can throw checked exceptions.
+     */
+    @FunctionalInterface
+    public interface CheckedLongSupplier {
+        long get() throws Exception;
+    }
+
+    /**
+     * A supplier of {@code double} values that can throw checked exceptions.
+     */
+    @FunctionalInterface
+    public interface CheckedDoubleSupplier {
+        double get() throws Exception;
+    }
+
     /**
      * Functional interface representing a Callback.
      */
@@ -62,6 +120,47 @@ public class AnuKit {
         R apply(T input) throws Exception;
     }
 
+    /**
+     * A function producing an {@code int}, potentially throwing an exception.
+     */
+    @FunctionalInterface
+    public interface SafeToIntTransformer<T> {
+        int apply(T input) throws Exception;
+    }
+
+    /**
+     * A function producing a {@code long}, potentially throwing an exception.
+     */
+    @FunctionalInterface
+    public interface SafeToLongTransformer<T> {
+        long apply(T input) throws Exception;
+    }
+
+    /**
+     * A function producing a {@code double}, potentially throwing an exception.
+     */
+    @FunctionalInterface
+    public interface SafeToDoubleTransformer<T> {
+        double apply(T input) throws Exception;
+    }
+
+    /**
+     * A condition on a value, potentially throwing an exception.
+     */
+    @FunctionalInterface
+    public interface SafePredicate<T> {
+        boolean test(T input) throws Exception;
+    }
+
+    /**
+     * A function transforming a whole batch at once, potentially throwing an exception.
+     * The returned list must hold exactly one output per input, in the same order.
+     */
+    @FunctionalInterface
+    public interface SafeBatchTransformer<T, R> {
+        List<R> apply(List<T> batch) throws Exception;
+    }
+
     /**
      * A simple transformer interface with no exception.
      */
@@ -93,6 +192,110 @@ public class AnuKit {
         }
     }
 
+    /**
+     * Attempts to execute a checked supplier, recording its outcome and latency under {@code operation}
+     * when {@link Metrics} are enabled.
+     *
+     * @param operation the operation name
+     * @param supplier  function that may throw
+     * @param <T>       type of successful result
+     * @return {@link Result} of success or error
+     */
+    public static <T> Result<T, Exception> tryWrap(String operation, CheckedSupplier<T> supplier) {
+        return tryWrap(Metrics.instrument(operation, supplier));
+    }
+
+    /**
+     * Attempts to execute a checked supplier, retrying failures according to the policy.
+     * Sleeps on the calling thread between attempts.
+     *
+     * @param supplier function that may throw
+     * @param policy   retry policy
+     * @param <T>      type of successful result
+     * @return {@link Result} of the first success, or the last error
+     */
+    public static <T> Result<T, Exception> tryWrap(CheckedSupplier<T> supplier, RetryPolicy policy) {
+        return policy.call(supplier);
+    }
+
+    /**
+     * Attempts to execute a checked supplier through a circuit breaker, failing fast while it is open.
+     *
+     * @param supplier function that may throw
+     * @param breaker  circuit breaker guarding the dependency
+     * @param <T>      type of successful result
+     * @return {@link Result} of success or error; the error is a {@link CallNotPermittedException} if rejected
+     */
+    public static <T> Result<T, Exception> tryWrap(CheckedSupplier<T> supplier, CircuitBreaker breaker) {
+        return breaker.call(supplier);
+    }
+
+    /**
+     * Attempts to execute a checked supplier within a bulkhead, waiting for a free permit at most as configured.
+     *
+     * @param supplier function that may throw
+     * @param bulkhead bulkhead limiting concurrent calls
+     * @param <T>      type of successful result
+     * @return {@link Result} of success or error; the error is a {@link CallNotPermittedException} if rejected
+     */
+    public static <T> Result<T, Exception> tryWrap(CheckedSupplier<T> supplier, Bulkhead bulkhead) {
+        return bulkhead.call(supplier);
+    }
+
+    /**
+     * Attempts to execute a checked supplier under a rate limit, waiting for a permit at most as configured.
+     *
+     * @param supplier function that may throw
+     * @param limiter  rate limiter issuing permits
+     * @param <T>      type of successful result
+     * @return {@link Result} of success or error; the error is a {@link CallNotPermittedException} if rejected
+     */
+    public static <T> Result<T, Exception> tryWrap(CheckedSupplier<T> supplier, RateLimiter limiter) {
+        return limiter.call(supplier);
+    }
+
+    /**
+     * Attempts to execute a checked {@code int} supplier without boxing the value.
+     *
+     * @param supplier function that may throw
+     * @return {@link IntResult} of success or error
+     */
+    public static IntResult<Exception> tryWrapInt(CheckedIntSupplier supplier) {
+        try {
+            return IntResult.ok(supplier.get());
+        } catch (Exception e) {
+            return IntResult.err(e);
+        }
+    }
+
+    /**
+     * Attempts to execute a checked {@code long} supplier without boxing the value.
+     *
+     * @param supplier function that may throw
+     * @return {@link LongResult} of success or error
+     */
+    public static LongResult<Exception> tryWrapLong(CheckedLongSupplier supplier) {
+        try {
+            return LongResult.ok(supplier.get());
+        } catch (Exception e) {
+            return LongResult.err(e);
+        }
+    }
+
+    /**
+     * Attempts to execute a checked {@code double} supplier without boxing the value.
+     *
+     * @param supplier function that may throw
+     * @return {@link DoubleResult} of success or error
+     */
+    public static DoubleResult<Exception> tryWrapDouble(CheckedDoubleSupplier supplier) {
+        try {
+            return DoubleResult.ok(supplier.get());
+        } catch (Exception e) {
+            return DoubleResult.err(e);
+        }
+    }
+
     /**
      * Executes the given function and returns a fallback value if an error occurs.
      *
@@ -109,6 +312,19 @@ public class AnuKit {
         }
     }
 
+    /**
+     * Memoizes a transformer: results, including errors, are cached per input in a bounded {@link ResultCache}.
+     * Configure size, weight and time-to-live through the returned cache's {@code withX} methods.
+     *
+     * @param function the function to memoize
+     * @param <T>      the input type
+     * @param <R>      the result type
+     * @return a caching transformer holding at most 10 000 entries
+     */
+    public static <T, R> ResultCache<T, R> memoize(SafeTransformer<? super T, ? extends R> function) {
+        return ResultCache.memoize(function);
+    }
+
     /**
      * Wraps a list into a ResultStreamHolder for safe functional transformations.
      *
@@ -120,22 +336,400 @@ public class AnuKit {
         return new ResultStreamHolder<>(collection.stream());
     }
 
+    /**
+     * Wraps an iterable into a ResultStreamHolder. Late-binding: the iterator is only requested
+     * once a terminal operation starts, and elements are then pulled one at a time.
+     *
+     * @param iterable source elements
+     * @param <T>      element type
+     * @return wrapped stream
+     */
+    public static <T> ResultStreamHolder<T> wrapIterable(Iterable<T> iterable) {
+        return new ResultStreamHolder<>(StreamSupport.stream(iterable::spliterator, Spliterator.ORDERED, false));
+    }
+
+    /**
+     * Wraps an iterator into a ResultStreamHolder; elements are pulled lazily, one at a time.
+     * Suitable for cursors and other sources too large to hold in memory.
+     *
+     * @param iterator source elements
+     * @param <T>      element type
+     * @return wrapped stream
+     */
+    public static <T> ResultStreamHolder<T> wrapIterator(Iterator<T> iterator) {
+        return wrapSpliterator(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED));
+    }
+
+    /**
+     * Wraps a spliterator into a ResultStreamHolder; elements are pulled lazily.
+     *
+     * @param spliterator source elements
+     * @param <T>         element type
+     * @return wrapped stream
+     */
+    public static <T> ResultStreamHolder<T> wrapSpliterator(Spliterator<T> spliterator) {
+        return new ResultStreamHolder<>(StreamSupport.stream(spliterator, false));
+    }
+
+    /**
+     * Wraps an existing stream into a ResultStreamHolder. The stream stays lazy and keeps its close handlers.
+     *
+     * @param stream source elements
+     * @param <T>    element type
+     * @return wrapped stream
+     */
+    public static <T> ResultStreamHolder<T> wrapStream(Stream<T> stream) {
+        return new ResultStreamHolder<>(stream);
+    }
+
+    /**
+     * Wraps a pull-based source into a ResultStreamHolder, such as a paginated API client.
+     * The supplier is called once per element, only when the next element is needed;
+     * returning {@code null} ends the stream.
+     *
+     * @param next supplier of the next element, or {@code null} when exhausted
+     * @param <T>  element type
+     * @return wrapped stream
+     */
+    public static <T> ResultStreamHolder<T> wrapSupplier(PureSupplier<T> next) {
+        return wrapSpliterator(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean exhausted;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (exhausted) return false;
+                T item = next.get();
+                if (item == null) {
+                    exhausted = true;
+                    return false;
+                }
+                action.accept(item);
+                return true;
+            }
+        });
+    }
+
     /**
      * Executes a checked supplier asynchronously, returning a {@link Result} wrapped in a {@link CompletableFuture}.
+     * Runs on the {@linkplain #getDefaultExecutor() default executor}.
      */
     public static <T> CompletableFuture<Result<T, Exception>> tryWrapAsync(CheckedSupplier<T> supplier) {
-        return runAsync(() -> tryWrap(supplier));
+        return tryWrapAsync(supplier, defaultExecutor);
+    }
+
+    /**
+     * Executes a checked supplier on the given executor, returning a {@link Result} wrapped in a {@link CompletableFuture}.
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapAsync(CheckedSupplier<T> supplier, Executor executor) {
+        return runAsync(() -> tryWrap(supplier), executor);
+    }
+
+    /**
+     * Executes a checked supplier asynchronously with retries. Attempts run on the
+     * {@linkplain #getDefaultExecutor() default executor}; the delays between them are timed by
+     * {@code scheduler}, so no thread sleeps while waiting for a retry.
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapAsync(CheckedSupplier<T> supplier, RetryPolicy policy,
+                                                                         ScheduledExecutorService scheduler) {
+        return policy.callAsync(supplier, scheduler, defaultExecutor);
+    }
+
+    /**
+     * Executes a checked supplier asynchronously through a circuit breaker on the
+     * {@linkplain #getDefaultExecutor() default executor}. While the breaker is open, the returned future is
+     * already completed with an error and nothing is submitted.
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapAsync(CheckedSupplier<T> supplier, CircuitBreaker breaker) {
+        return breaker.callAsync(supplier, defaultExecutor);
+    }
+
+    /**
+     * Executes a checked supplier asynchronously within a bulkhead on the {@linkplain #getDefaultExecutor() default executor},
+     * holding its permit until the supplier completes. Without a free permit in time, the returned future is
+     * already completed with an error and nothing is submitted.
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapAsync(CheckedSupplier<T> supplier, Bulkhead bulkhead) {
+        return bulkhead.callAsync(supplier, defaultExecutor);
+    }
+
+    /**
+     * Executes a checked supplier asynchronously under a rate limit on the {@linkplain #getDefaultExecutor() default executor}.
+     * Without a permit in time, the returned future is already completed with an error and nothing is submitted.
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapAsync(CheckedSupplier<T> supplier, RateLimiter limiter) {
+        return limiter.callAsync(supplier, defaultExecutor);
+    }
+
+    /**
+     * Executes a checked supplier asynchronously, starting duplicate attempts when it is slow
+     * according to the {@link HedgePolicy}. Attempts run on the {@linkplain #getDefaultExecutor() default executor}.
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapAsync(CheckedSupplier<T> supplier, HedgePolicy policy,
+                                                                         ScheduledExecutorService scheduler) {
+        return policy.callAsync(supplier, scheduler, defaultExecutor);
+    }
+
+    /**
+     * Runs all alternative suppliers at once on the {@linkplain #getDefaultExecutor() default executor}
+     * and completes with the first {@code ok} result, cancelling the rest.
+     *
+     * @param alternatives suppliers producing an equivalent value
+     * @param <T>          type of successful result
+     * @return a future of the first success, or of an {@link AllAttemptsFailedException} if all failed
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapFirst(List<? extends CheckedSupplier<T>> alternatives) {
+        return tryWrapFirst(alternatives, defaultExecutor);
+    }
+
+    /**
+     * Runs all alternative suppliers at once on the given executor and completes with the first
+     * {@code ok} result, cancelling the rest.
+     *
+     * @param alternatives suppliers producing an equivalent value
+     * @param executor     runs the alternatives
+     * @param <T>          type of successful result
+     * @return a future of the first success, or of an {@link AllAttemptsFailedException} if all failed
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> tryWrapFirst(List<? extends CheckedSupplier<T>> alternatives,
+                                                                         Executor executor) {
+        return HedgePolicy.race(alternatives, executor);
     }
 
     /**
      * Executes a supplier asynchronously using {@link CompletableFuture}.
+     * Runs on the {@linkplain #getDefaultExecutor() default executor}.
      */
     public static <T> CompletableFuture<T> runAsync(PureSupplier<T> supplier) {
-        return CompletableFuture.supplyAsync(supplier::get);
+        return runAsync(supplier, defaultExecutor);
+    }
+
+    /**
+     * Executes a supplier on the given executor using {@link CompletableFuture}.
+     */
+    public static <T> CompletableFuture<T> runAsync(PureSupplier<T> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(supplier::get, executor);
+    }
+
+    /**
+     * Executes a batch of checked suppliers with at most {@code maxConcurrency} running at once,
+     * on the {@linkplain #getDefaultExecutor() default executor}.
+     *
+     * @param tasks          the suppliers to execute; read lazily, one at a time
+     * @param maxConcurrency maximum number of suppliers in flight
+     * @param <T>            type of successful result
+     * @return the running execution, whose future completes with the results in input order
+     */
+    public static <T> BulkExecution<List<Result<T, Exception>>> tryWrapAll(
+            Iterable<? extends CheckedSupplier<T>> tasks, int maxConcurrency) {
+        return tryWrapAll(tasks, maxConcurrency, defaultExecutor);
+    }
+
+    /**
+     * Executes a batch of checked suppliers with at most {@code maxConcurrency} running at once on the given executor.
+     * <p>
+     * After {@link BulkExecution#cancel(boolean)}, the results list only covers the suppliers that were started.
+     *
+     * @param tasks          the suppliers to execute; read lazily, one at a time
+     * @param maxConcurrency maximum number of suppliers in flight
+     * @param executor       the executor running the workers
+     * @param <T>            type of successful result
+     * @return the running execution, whose future completes with the results in input order
+     */
+    public static <T> BulkExecution<List<Result<T, Exception>>> tryWrapAll(
+            Iterable<? extends CheckedSupplier<T>> tasks, int maxConcurrency, Executor executor) {
+        int expected = tasks instanceof Collection ? ((Collection<?>) tasks).size() : 16;
+        List<Result<T, Exception>> results = new ArrayList<>(expected);
+        BulkExecution.Listener<T> collector = (index, result) -> {
+            synchronized (results) {
+                while (results.size() <= index) results.add(null);
+                results.set((int) index, result);
+            }
+        };
+        return BulkExecution.start(tasks.iterator(), maxConcurrency, executor, collector, () -> {
+            synchronized (results) {
+                return results;
+            }
+        });
+    }
+
+    /**
+     * Executes checked suppliers with at most {@code maxConcurrency} running at once, handing every
+     * {@link Result} to the listener as soon as it completes instead of keeping it,
+     * on the {@linkplain #getDefaultExecutor() default executor}.
+     *
+     * @param tasks          the suppliers to execute; read lazily, one at a time
+     * @param maxConcurrency maximum number of suppliers in flight
+     * @param listener       receives the input index and result of each supplier
+     * @param <T>            type of successful result
+     * @return the running execution, whose future completes once every started supplier has finished
+     */
+    public static <T> BulkExecution<Void> tryWrapEach(Iterator<? extends CheckedSupplier<T>> tasks, int maxConcurrency,
+                                                      BulkExecution.Listener<T> listener) {
+        return tryWrapEach(tasks, maxConcurrency, listener, defaultExecutor);
+    }
+
+    /**
+     * Executes checked suppliers with at most {@code maxConcurrency} running at once on the given executor,
+     * handing every {@link Result} to the listener as soon as it completes instead of keeping it.
+     *
+     * @param tasks          the suppliers to execute; read lazily, one at a time
+     * @param maxConcurrency maximum number of suppliers in flight
+     * @param listener       receives the input index and result of each supplier
+     * @param executor       the executor running the workers
+     * @param <T>            type of successful result
+     * @return the running execution, whose future completes once every started supplier has finished
+     */
+    public static <T> BulkExecution<Void> tryWrapEach(Iterator<? extends CheckedSupplier<T>> tasks, int maxConcurrency,
+                                                      BulkExecution.Listener<T> listener, Executor executor) {
+        return BulkExecution.start(tasks, maxConcurrency, executor, listener, () -> null);
+    }
+
+    // ========== CONFIGURATION ==========
+
+    /**
+     * Returns the executor used by the async helpers when none is given.
+     * <p>
+     * Defaults to the common {@link java.util.concurrent.ForkJoinPool}; when running from the
+     * multi-release jar on JDK 21+, defaults to a virtual-thread-per-task executor.
+     */
+    public static Executor getDefaultExecutor() {
+        return defaultExecutor;
+    }
+
+    /**
+     * Replaces the executor used by the async helpers when none is given.
+     *
+     * @param executor the new default executor
+     */
+    public static void setDefaultExecutor(Executor executor) {
+        defaultExecutor = Objects.requireNonNull(executor, "executor");
     }
 
     // ========== HELPER CLASSES ==========
 
+    /**
+     * Pulls batches from the source, transforms each batch once and emits one result per item.
+     */
+    private static final class BatchingSpliterator<T, R> extends Spliterators.AbstractSpliterator<Result<R, Exception>> {
+        private final Spliterator<T> source;
+        private final SafeBatchTransformer<T, R> mapper;
+        private final int maxBatchSize;
+        private final long maxDelayNanos;
+        private final List<Result<R, Exception>> pending;
+        private final Consumer<T> collector = this::accept;
+        private List<T> batch;
+        private int cursor;
+        private long openedAt;
+
+        BatchingSpliterator(Spliterator<T> source, SafeBatchTransformer<T, R> mapper, int maxBatchSize, long maxDelayNanos) {
+            super(source.estimateSize(), Spliterator.ORDERED);
+            this.source = source;
+            this.mapper = mapper;
+            this.maxBatchSize = maxBatchSize;
+            this.maxDelayNanos = maxDelayNanos;
+            this.pending = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Result<R, Exception>> action) {
+            if (cursor == pending.size() && !fill()) return false;
+            action.accept(pending.get(cursor++));
+            return true;
+        }
+
+        private boolean fill() {
+            pending.clear();
+            cursor = 0;
+            batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+            while (batch.size() < maxBatchSize && source.tryAdvance(collector)) {
+                if (maxDelayNanos > 0 && System.nanoTime() - openedAt >= maxDelayNanos) break;
+            }
+            if (batch.isEmpty()) return false;
+            transform();
+            return true;
+        }
+
+        private void accept(T item) {
+            if (batch.isEmpty() && maxDelayNanos > 0) openedAt = System.nanoTime();
+            batch.add(item);
+        }
+
+        private void transform() {
+            if (batch.size() == 1) {
+                pending.add(isolate(batch.get(0)));
+                return;
+            }
+            try {
+                List<R> outputs = mapper.apply(batch);
+                if (outputs != null && outputs.size() == batch.size()) {
+                    for (R output : outputs) pending.add(Result.ok(output));
+                    return;
+                }
+            } catch (Exception ignored) {
+                // the whole batch failed: fall back to per-item isolation below
+            }
+            for (T item : batch) {
+                pending.add(isolate(item));
+            }
+        }
+
+        private Result<R, Exception> isolate(T item) {
+            try {
+                List<R> outputs = mapper.apply(Collections.singletonList(item));
+                if (outputs == null || outputs.size() != 1) {
+                    return Result.err(new IllegalStateException(
+                            "batch transformer returned " + (outputs == null ? "null" : outputs.size() + " outputs") + " for 1 input"));
+                }
+                return Result.ok(outputs.get(0));
+            } catch (Exception e) {
+                return Result.err(e);
+            }
+        }
+    }
+
+    /**
+     * Fork/join task mapping {@code input[from, to)} into the same slots of {@code output}.
+     */
+    private static final class MapChunk<T, R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] input;
+        private final Result<R, Exception>[] output;
+        private final SafeTransformer<T, R> mapper;
+        private final int from;
+        private final int to;
+        private final int granularity;
+
+        MapChunk(Object[] input, Result<R, Exception>[] output, SafeTransformer<T, R> mapper,
+                 int from, int to, int granularity) {
+            this.input = input;
+            this.output = output;
+            this.mapper = mapper;
+            this.from = from;
+            this.to = to;
+            this.granularity = granularity;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (to - from <= granularity) {
+                for (int i = from; i < to; i++) {
+                    T item = (T) input[i];
+                    try {
+                        output[i] = Result.ok(mapper.apply(item));
+                    } catch (Exception e) {
+                        output[i] = Result.err(e);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MapChunk<>(input, output, mapper, from, mid, granularity),
+                    new MapChunk<>(input, output, mapper, mid, to, granularity));
+        }
+    }
+
     /**
      * Wrapper for streaming collections with safe functional transforms.
      */
@@ -149,5 +743,156 @@ public class AnuKit {
         public <R> Stream<Result<R, Exception>> mapSafe(SafeTransformer<T, R> mapper) {
             return stream.map(item -> tryWrap(() -> mapper.apply(item)));
         }
+
+        /**
+         * Applies a function to each stream item until the first error; no further items are pulled
+         * from the source once an item fails.
+         *
+         * @param mapper the transformation to apply
+         * @return {@code ok} with all mapped values in order, or the first {@code err}
+         */
+        public <R> Result<List<R>, Exception> mapSafeFailFast(SafeTransformer<T, R> mapper) {
+            return Results.traverse(stream.iterator(), mapper);
+        }
+
+        /**
+         * Applies a function to each stream item, splitting successes and errors in a single pass
+         * without materializing a {@link Result} per item.
+         *
+         * @param mapper the transformation to apply
+         * @return all mapped values and all errors, in encounter order
+         */
+        public <R> Partition<R, Exception> mapSafePartitioned(SafeTransformer<T, R> mapper) {
+            return Results.traverseUntilErrors(stream.iterator(), mapper, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Applies a function to each stream item, splitting successes and errors in a single pass,
+         * and stops pulling from the source once {@code maxErrors} errors were collected.
+         *
+         * @param mapper    the transformation to apply
+         * @param maxErrors number of errors after which to stop, at least 1
+         * @return the mapped values and at most {@code maxErrors} errors
+         */
+        public <R> Partition<R, Exception> mapSafeUntilErrors(SafeTransformer<T, R> mapper, int maxErrors) {
+            return Results.traverseUntilErrors(stream.iterator(), mapper, maxErrors);
+        }
+
+        /**
+         * Groups stream items into batches of {@code batchSize} and calls the batch transformer once per batch,
+         * fanning its output back into one {@link Result} per item.
+         *
+         * @see #mapSafeBatched(SafeBatchTransformer, int, long, TimeUnit)
+         */
+        public <R> Stream<Result<R, Exception>> mapSafeBatched(SafeBatchTransformer<T, R> mapper, int batchSize) {
+            return mapSafeBatched(mapper, batchSize, 0, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Groups stream items into batches and calls the batch transformer once per batch,
+         * fanning its output back into one {@link Result} per item, in input order.
+         * <p>
+         * A batch is closed when it reaches {@code maxBatchSize} items, or when an item arrives more than
+         * {@code maxDelay} after the batch was opened. If the transformer throws for a whole batch, or returns
+         * the wrong number of outputs, each item of that batch is retried on its own, so one bad record
+         * only fails itself. The stream stays lazy: batches are pulled from the source as results are consumed.
+         *
+         * @param mapper       the batch transformation to apply
+         * @param maxBatchSize maximum items per batch, at least 1
+         * @param maxDelay     maximum age of a batch before it is closed, or {@code 0} for no time budget
+         * @param unit         unit of {@code maxDelay}
+         * @return one result per input item, in input order
+         */
+        public <R> Stream<Result<R, Exception>> mapSafeBatched(SafeBatchTransformer<T, R> mapper, int maxBatchSize,
+                                                               long maxDelay, TimeUnit unit) {
+            if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be >= 1: " + maxBatchSize);
+            Spliterator<Result<R, Exception>> batched =
+                    new BatchingSpliterator<>(stream.spliterator(), mapper, maxBatchSize, unit.toNanos(maxDelay));
+            return StreamSupport.stream(batched, false).onClose(stream::close);
+        }
+
+        /**
+         * Applies a function to each stream item in parallel on the common {@link ForkJoinPool},
+         * preserving the input order of the results.
+         *
+         * @see #mapSafeParallel(SafeTransformer, ForkJoinPool, int)
+         */
+        public <R> Stream<Result<R, Exception>> mapSafeParallel(SafeTransformer<T, R> mapper) {
+            return mapSafeParallel(mapper, ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Applies a function to each stream item in parallel on the given pool, preserving the input order
+         * of the results. The chunk size is chosen from the input size and the pool's parallelism.
+         *
+         * @see #mapSafeParallel(SafeTransformer, ForkJoinPool, int)
+         */
+        public <R> Stream<Result<R, Exception>> mapSafeParallel(SafeTransformer<T, R> mapper, ForkJoinPool pool) {
+            return mapSafeParallel(mapper, pool, 0);
+        }
+
+        /**
+         * Applies a function to each stream item in parallel on the given pool, preserving the input order
+         * of the results.
+         * <p>
+         * The source is drained into an array and split into chunks of at most {@code chunkSize} items,
+         * each mapped sequentially by one pool thread. Use a larger chunk size for cheap per-item transforms.
+         * The mapping completes before this method returns; the returned stream only walks the results.
+         *
+         * @param mapper    the transformation to apply
+         * @param pool      the pool to run the chunks on
+         * @param chunkSize maximum items per task, or {@code 0} to derive it from the pool's parallelism
+         * @return the results, in input order
+         */
+        public <R> Stream<Result<R, Exception>> mapSafeParallel(SafeTransformer<T, R> mapper, ForkJoinPool pool, int chunkSize) {
+            if (chunkSize < 0) throw new IllegalArgumentException("chunkSize must be >= 0: " + chunkSize);
+            Object[] input = stream.toArray();
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Result<R, Exception>[] output = new Result[input.length];
+            int granularity = chunkSize > 0
+                    ? chunkSize
+                    : Math.max(1, input.length / (pool.getParallelism() * 4));
+            pool.invoke(new MapChunk<>(input, output, mapper, 0, input.length, granularity));
+            return Arrays.stream(output);
+        }
+
+        /**
+         * Maps each stream item to an {@code int}, substituting {@code fallback} when the mapper throws.
+         */
+        public IntStream mapToIntSafe(SafeToIntTransformer<T> mapper, int fallback) {
+            return stream.mapToInt(item -> {
+                try {
+                    return mapper.apply(item);
+                } catch (Exception e) {
+                    return fallback;
+                }
+            });
+        }
+
+        /**
+         * Maps each stream item to a {@code long}, substituting {@code fallback} when the mapper throws.
+         */
+        public LongStream mapToLongSafe(SafeToLongTransformer<T> mapper, long fallback) {
+            return stream.mapToLong(item -> {
+                try {
+                    return mapper.apply(item);
+                } catch (Exception e) {
+                    return fallback;
+                }
+            });
+        }
+
+        /**
+         * Maps each stream item to a {@code double}, substituting {@code fallback} when the mapper throws.
+         */
+        public DoubleStream mapToDoubleSafe(SafeToDoubleTransformer<T> mapper, double fallback) {
+            return stream.mapToDouble(item -> {
+                try {
+                    return mapper.apply(item);
+                } catch (Exception e) {
+                    return fallback;
+                }
+            });
+        }
     }
 }
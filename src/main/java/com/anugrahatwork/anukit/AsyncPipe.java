@@ -0,0 +1,262 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * The asynchronous counterpart of {@link Pipe}: a chain of safe stages over a
+ * {@code CompletableFuture<Result<T, Exception>>}.
+ * <p>
+ * The underlying future never completes exceptionally; every failure, including an exceptionally
+ * completed async stage, becomes an {@code err} {@link Result}. Once a stage fails, the remaining
+ * stages are skipped without being invoked and without switching threads.
+ * <p>
+ * Stages without an executor run on whichever thread completes the previous stage, so a stage that
+ * completes synchronously adds no thread hop. Stages given an {@link Executor} run there, but only when
+ * the pipe is still {@code ok}; if the executor rejects the stage, the pipe fails with the rejection.
+ *
+ * <pre>{@code
+ * AsyncPipe.supply(() -> loadUser(id), ioPool)
+ *     .map(User::getAccountId)
+ *     .flatMapAsync(accountId -> AnuKit.tryWrapAsync(() -> loadAccount(accountId)))
+ *     .toFuture();
+ * }</pre>
+ *
+ * @param <T> the type of the wrapped value
+ */
+public final class AsyncPipe<T> {
+
+    private final CompletableFuture<Result<T, Exception>> future;
+
+    private AsyncPipe(CompletableFuture<Result<T, Exception>> future) {
+        this.future = future;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates an already completed pipe from a raw value.
+     *
+     * @param value the initial value
+     * @param <T>   the value type
+     * @return a new AsyncPipe instance
+     */
+    public static <T> AsyncPipe<T> of(T value) {
+        return new AsyncPipe<>(CompletableFuture.completedFuture(Result.ok(value)));
+    }
+
+    /**
+     * Creates a pipe whose initial value is produced asynchronously by {@link AnuKit#tryWrapAsync}.
+     *
+     * @param supplier a supplier that may throw
+     * @param <T>      the value type
+     * @return a new AsyncPipe instance
+     */
+    public static <T> AsyncPipe<T> supply(AnuKit.CheckedSupplier<T> supplier) {
+        return from(AnuKit.tryWrapAsync(supplier));
+    }
+
+    /**
+     * Creates a pipe whose initial value is produced by the supplier on the given executor.
+     *
+     * @param supplier a supplier that may throw
+     * @param executor the executor to run the supplier on
+     * @param <T>      the value type
+     * @return a new AsyncPipe instance
+     */
+    public static <T> AsyncPipe<T> supply(AnuKit.CheckedSupplier<T> supplier, Executor executor) {
+        return from(AnuKit.tryWrapAsync(supplier, executor));
+    }
+
+    /**
+     * Adopts an existing future of a {@link Result}, such as one returned by {@link AnuKit#tryWrapAsync}.
+     * An exceptional completion of the future becomes an {@code err} result.
+     *
+     * @param future the future to continue from
+     * @param <T>    the value type
+     * @return a new AsyncPipe instance
+     */
+    public static <T> AsyncPipe<T> from(CompletionStage<Result<T, Exception>> future) {
+        return new AsyncPipe<>(future.handle(AsyncPipe::settle).toCompletableFuture());
+    }
+
+    // ====== Stages ======
+
+    /**
+     * Applies a modifier to the value if the current state is {@code ok()}.
+     *
+     * @param modifier a function to apply to the current value
+     * @return a new AsyncPipe for the next stage
+     */
+    public AsyncPipe<T> then(AnuKit.Modifier<T> modifier) {
+        return map(modifier::modify);
+    }
+
+    /**
+     * Applies a type-changing transformation if the current state is {@code ok()}, on the completing thread.
+     *
+     * @param transformer a function to apply to the current value
+     * @param <R>         the new value type
+     * @return a new AsyncPipe for the next stage
+     */
+    public <R> AsyncPipe<R> map(AnuKit.SafeTransformer<T, R> transformer) {
+        return new AsyncPipe<>(future.thenApply(result -> apply(result, transformer)));
+    }
+
+    /**
+     * Applies a type-changing transformation on the given executor if the current state is {@code ok()}.
+     *
+     * @param transformer a function to apply to the current value
+     * @param executor    the executor to run the transformation on
+     * @param <R>         the new value type
+     * @return a new AsyncPipe for the next stage
+     */
+    public <R> AsyncPipe<R> map(AnuKit.SafeTransformer<T, R> transformer, Executor executor) {
+        return new AsyncPipe<>(future.thenCompose(result -> {
+            if (!result.isOk()) return CompletableFuture.completedFuture(retype(result));
+            try {
+                return CompletableFuture.supplyAsync(() -> apply(result, transformer), executor);
+            } catch (RuntimeException rejected) {
+                return CompletableFuture.completedFuture(Result.err(rejected));
+            }
+        }));
+    }
+
+    /**
+     * Applies an asynchronous transformation if the current state is {@code ok()}.
+     * An exceptional completion of the returned stage becomes an {@code err} result.
+     *
+     * @param transformer a function returning a stage that completes with the new value
+     * @param <R>         the new value type
+     * @return a new AsyncPipe for the next stage
+     */
+    public <R> AsyncPipe<R> mapAsync(AnuKit.SafeTransformer<T, ? extends CompletionStage<R>> transformer) {
+        return flatMapAsync(value -> transformer.apply(value).thenApply(Result::ok));
+    }
+
+    /**
+     * Applies an asynchronous transformation, invoked on the given executor, if the current state is {@code ok()}.
+     *
+     * @param transformer a function returning a stage that completes with the new value
+     * @param executor    the executor to invoke the transformer on
+     * @param <R>         the new value type
+     * @return a new AsyncPipe for the next stage
+     */
+    public <R> AsyncPipe<R> mapAsync(AnuKit.SafeTransformer<T, ? extends CompletionStage<R>> transformer,
+                                     Executor executor) {
+        return flatMapAsync(value -> transformer.apply(value).thenApply(Result::ok), executor);
+    }
+
+    /**
+     * Applies an asynchronous transformation that itself returns a {@link Result}, adopting its state.
+     * This is the way to chain {@link AnuKit#tryWrapAsync} calls without nesting.
+     *
+     * @param transformer a function returning a stage that completes with the next result
+     * @param <R>         the new value type
+     * @return a new AsyncPipe for the next stage
+     */
+    public <R> AsyncPipe<R> flatMapAsync(
+            AnuKit.SafeTransformer<T, ? extends CompletionStage<Result<R, Exception>>> transformer) {
+        return new AsyncPipe<>(future.thenCompose(result -> compose(result, transformer)));
+    }
+
+    /**
+     * Applies an asynchronous transformation returning a {@link Result}, invoked on the given executor,
+     * if the current state is {@code ok()}.
+     *
+     * @param transformer a function returning a stage that completes with the next result
+     * @param executor    the executor to invoke the transformer on
+     * @param <R>         the new value type
+     * @return a new AsyncPipe for the next stage
+     */
+    public <R> AsyncPipe<R> flatMapAsync(
+            AnuKit.SafeTransformer<T, ? extends CompletionStage<Result<R, Exception>>> transformer,
+            Executor executor) {
+        return new AsyncPipe<>(future.thenCompose(result -> {
+            if (!result.isOk()) return CompletableFuture.completedFuture(retype(result));
+            try {
+                return CompletableFuture.supplyAsync(() -> compose(result, transformer), executor)
+                        .thenCompose(stage -> stage);
+            } catch (RuntimeException rejected) {
+                return CompletableFuture.completedFuture(Result.<R, Exception>err(rejected));
+            }
+        }));
+    }
+
+    // ====== Terminal Operations ======
+
+    /**
+     * Returns the future of the final {@link Result}. It never completes exceptionally.
+     */
+    public CompletableFuture<Result<T, Exception>> toFuture() {
+        return future;
+    }
+
+    /**
+     * Waits for all stages and returns the final {@link Result}.
+     *
+     * @return the final result
+     */
+    public Result<T, Exception> join() {
+        return future.join();
+    }
+
+    // ====== Internal Utility ======
+
+    private static <T, R> Result<R, Exception> apply(Result<T, Exception> result, AnuKit.SafeTransformer<T, R> transformer) {
+        if (!result.isOk()) return retype(result);
+        try {
+            return Result.ok(transformer.apply(result.unwrapOrThrow()));
+        } catch (Exception e) {
+            return Result.err(e);
+        } catch (Throwable fatal) {
+            return Result.err(new ExecutionException(fatal));
+        }
+    }
+
+    private static <T, R> CompletionStage<Result<R, Exception>> compose(
+            Result<T, Exception> result,
+            AnuKit.SafeTransformer<T, ? extends CompletionStage<Result<R, Exception>>> transformer) {
+        if (!result.isOk()) return CompletableFuture.completedFuture(retype(result));
+        CompletionStage<Result<R, Exception>> next;
+        try {
+            next = transformer.apply(result.unwrapOrThrow());
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(Result.err(e));
+        } catch (Throwable fatal) {
+            return CompletableFuture.completedFuture(Result.err(new ExecutionException(fatal)));
+        }
+        if (next == null) {
+            return CompletableFuture.completedFuture(Result.err(new NullPointerException("stage returned null")));
+        }
+        return next.handle(AsyncPipe::settle);
+    }
+
+    private static <T> Result<T, Exception> settle(Result<T, Exception> result, Throwable failure) {
+        if (failure == null) return result != null ? result : Result.none();
+        return Result.err(toException(failure));
+    }
+
+    /**
+     * Unwraps the {@link CompletionException} layer added by {@link CompletableFuture}.
+     */
+    static Exception toException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause instanceof Exception ? (Exception) cause : new ExecutionException(cause);
+    }
+
+    /**
+     * Reuses a non-ok result under a new value type; it carries no value, so the cast is safe.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, R> Result<R, Exception> retype(Result<T, Exception> result) {
+        return (Result<R, Exception>) (Result<?, Exception>) result;
+    }
+}
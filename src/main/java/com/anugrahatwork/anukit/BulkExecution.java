@@ -0,0 +1,194 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A running batch of {@link AnuKit.CheckedSupplier}s executed with bounded concurrency.
+ * <p>
+ * At most {@code maxConcurrency} suppliers run at any time. Each of up to {@code maxConcurrency} workers
+ * pulls the next supplier from the source only when it is free, so a lazy source is never read ahead
+ * and in-flight work never exceeds the limit. {@link #cancel(boolean)} stops pulling new suppliers;
+ * the suppliers that were already started always form a prefix of the input.
+ * <p>
+ * Obtain instances through {@link AnuKit#tryWrapAll} (results in input order) or
+ * {@link AnuKit#tryWrapEach} (results streamed to a {@link Listener} as they complete).
+ *
+ * @param <R> the type of the overall outcome
+ */
+public final class BulkExecution<R> {
+
+    /**
+     * Receives each supplier's {@link Result} as soon as it completes. May be called from several threads at once.
+     *
+     * @param <T> the supplier value type
+     */
+    @FunctionalInterface
+    public interface Listener<T> {
+        void onResult(long index, Result<T, Exception> result);
+    }
+
+    private final CompletableFuture<R> future = new CompletableFuture<>();
+    private final Object runningLock = new Object();
+    private final Thread[] running;
+    private final boolean[] interrupted;
+    private final AtomicInteger activeWorkers;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Object sourceLock = new Object();
+    private final Iterator<? extends AnuKit.CheckedSupplier<?>> source;
+    private final Listener<Object> listener;
+    private final AnuKit.PureSupplier<R> outcome;
+
+    private volatile boolean cancelled;
+    private boolean interruptRequested;
+    private long nextIndex;
+
+    @SuppressWarnings("unchecked")
+    private <T> BulkExecution(Iterator<? extends AnuKit.CheckedSupplier<T>> source, int workers,
+                              Listener<T> listener, AnuKit.PureSupplier<R> outcome) {
+        this.source = source;
+        this.listener = (Listener<Object>) (Listener<?>) listener;
+        this.outcome = outcome;
+        this.running = new Thread[workers];
+        this.interrupted = new boolean[workers];
+        this.activeWorkers = new AtomicInteger(workers);
+    }
+
+    /**
+     * Starts executing the suppliers from {@code source}; {@code outcome} is evaluated once all workers finish.
+     */
+    static <T, R> BulkExecution<R> start(Iterator<? extends AnuKit.CheckedSupplier<T>> source, int maxConcurrency,
+                                         Executor executor, Listener<T> listener, AnuKit.PureSupplier<R> outcome) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("maxConcurrency must be >= 1: " + maxConcurrency);
+        BulkExecution<R> execution = new BulkExecution<>(source, maxConcurrency, listener, outcome);
+        for (int i = 0; i < maxConcurrency; i++) {
+            int slot = i;
+            try {
+                executor.execute(() -> execution.work(slot));
+            } catch (RuntimeException e) {
+                execution.fail(e);
+                execution.workerDone();
+            }
+        }
+        return execution;
+    }
+
+    /**
+     * Returns the future of the overall outcome. It completes once every started supplier has finished,
+     * including after {@link #cancel(boolean)}, and completes exceptionally only if the source or listener threw.
+     */
+    public CompletableFuture<R> future() {
+        return future;
+    }
+
+    /**
+     * Waits for the execution to finish and returns its outcome.
+     */
+    public R join() {
+        return future.join();
+    }
+
+    /**
+     * Stops starting new suppliers. Suppliers already running finish normally.
+     */
+    public void cancel() {
+        cancel(false);
+    }
+
+    /**
+     * Stops starting new suppliers and optionally interrupts the ones already running;
+     * an interrupted supplier typically completes as an {@code err} result.
+     *
+     * @param mayInterruptIfRunning whether to interrupt running suppliers
+     */
+    public void cancel(boolean mayInterruptIfRunning) {
+        cancelled = true;
+        if (!mayInterruptIfRunning) return;
+        synchronized (runningLock) {
+            interruptRequested = true;
+            for (int i = 0; i < running.length; i++) {
+                if (running[i] != null) interrupt(i);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if {@link #cancel(boolean)} was called.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    // ====== Internal Utility ======
+
+    private void work(int slot) {
+        try {
+            long index;
+            AnuKit.CheckedSupplier<?> task;
+            while (true) {
+                synchronized (sourceLock) {
+                    if (cancelled || !source.hasNext()) break;
+                    task = source.next();
+                    index = nextIndex++;
+                }
+                synchronized (runningLock) {
+                    running[slot] = Thread.currentThread();
+                    if (interruptRequested) interrupt(slot);
+                }
+                Result<?, Exception> result;
+                try {
+                    result = AnuKit.tryWrap(task);
+                } finally {
+                    boolean clear;
+                    synchronized (runningLock) {
+                        running[slot] = null;
+                        clear = interrupted[slot];
+                        interrupted[slot] = false;
+                    }
+                    // clears only an interrupt delivered by cancel(true), so it cannot leak into the executor's
+                    // next task while a pool shutdown still gets through
+                    if (clear) Thread.interrupted();
+                }
+                @SuppressWarnings("unchecked")
+                Result<Object, Exception> typed = (Result<Object, Exception>) result;
+                listener.onResult(index, typed);
+            }
+        } catch (Throwable t) {
+            fail(t);
+        } finally {
+            workerDone();
+        }
+    }
+
+    /**
+     * Interrupts the thread running in {@code slot}; called with {@link #runningLock} held.
+     */
+    private void interrupt(int slot) {
+        interrupted[slot] = true;
+        running[slot].interrupt();
+    }
+
+    private void fail(Throwable t) {
+        failure.compareAndSet(null, t);
+        cancelled = true;
+    }
+
+    private void workerDone() {
+        if (activeWorkers.decrementAndGet() != 0) return;
+        Throwable t = failure.get();
+        if (t != null) {
+            future.completeExceptionally(t);
+            return;
+        }
+        try {
+            future.complete(outcome.get());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
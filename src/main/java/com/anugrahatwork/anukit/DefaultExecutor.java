@@ -0,0 +1,20 @@
+package com.anugrahatwork.anukit;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Chooses the executor used by the async helpers when none is given.
+ * <p>
+ * This is the Java 8 baseline, which keeps the behavior of {@link java.util.concurrent.CompletableFuture#supplyAsync}.
+ * The multi-release jar overrides this class on JDK 21+ with a virtual-thread executor.
+ */
+final class DefaultExecutor {
+
+    private DefaultExecutor() {
+    }
+
+    static Executor create() {
+        return ForkJoinPool.commonPool();
+    }
+}
@@ -1,30 +1,62 @@
 package com.anugrahatwork.anukit;
 
+import com.anugrahatwork.anukit.result.ErrorContext;
 import com.anugrahatwork.anukit.result.Result;
-import lombok.Getter;
 
 /**
  * A fluent wrapper for safely applying transformations to a value,
  * capturing success and failure as a {@link Result}.
  * <p>
  * Inspired by functional programming pipes and method chaining patterns.
+ * <p>
+ * The pipe keeps the raw value (or the first error) internally and only builds a {@link Result}
+ * when {@link #getResult()} is called, so an N-stage pipe allocates one {@code Result} rather than N.
+ * Once a stage fails, or {@link #filter} rejects the value, every remaining stage is skipped.
+ * {@code then} and {@code filter} update and return the same pipe; {@code map} and {@code flatMap} return a new pipe
+ * of the new type and leave this one unchanged.
+ * <p>
+ * A failed pipe's {@link Result} carries an {@link ErrorContext} frame with the zero-based index of the
+ * failing stage (counting every stage method call after the source) and its name, if one was given.
  *
  * @param <T> the type of the wrapped value
  */
-@Getter
 public class Pipe<T> {
+
+    private Result.State state;
+    private Object value;
+    private Exception error;
+
+    /**
+     * Index of the next stage to run.
+     */
+    private int stage;
+
+    /**
+     * Where the pipe failed: the stage index and name, and any context carried by a {@code flatMap} error.
+     */
+    private int failedStage = ErrorContext.NO_STAGE;
+    private String failedName;
+    private ErrorContext failedContext;
+
     /**
-     * The current {@link Result} representing the state of transformation.
+     * The {@link Result} built by the last {@link #getResult()} call; reset whenever a stage runs.
      */
     private Result<T, Exception> result;
 
+    /**
+     * Private constructor for {@link #branch()}; the caller copies the state.
+     */
+    private Pipe() {
+    }
+
     /**
      * Private constructor for static factory.
      *
      * @param value the initial value
      */
     private Pipe(T value) {
-        this.result = Result.ok(value);
+        this.state = Result.State.OK;
+        this.value = value;
     }
 
     /**
@@ -33,7 +65,12 @@ public class Pipe<T> {
      * @param supplier a supplier that may throw
      */
     public Pipe(AnuKit.CheckedSupplier<T> supplier) {
-        this.result = AnuKit.tryWrap(supplier);
+        try {
+            this.value = supplier.get();
+            this.state = Result.State.OK;
+        } catch (Exception e) {
+            fail(e, ErrorContext.NO_STAGE, null);
+        }
     }
 
     /**
@@ -44,12 +81,139 @@ public class Pipe<T> {
      * @return this Pipe (for chaining)
      */
     public Pipe<T> then(AnuKit.Modifier<T> modifier) {
-        if (result.isOk()) {
-            this.result = AnuKit.tryWrap(() -> modifier.modify(this.result.unwrapOrThrow()));
+        return then(null, modifier);
+    }
+
+    /**
+     * Applies a named transformation to the value if the current state is {@code ok()}.
+     * The name only appears in the error context if this stage fails.
+     *
+     * @param name     the stage name
+     * @param modifier a function to apply to the current value
+     * @return this Pipe (for chaining)
+     */
+    @SuppressWarnings("unchecked")
+    public Pipe<T> then(String name, AnuKit.Modifier<T> modifier) {
+        if (state == Result.State.OK) {
+            try {
+                advance(modifier.modify((T) value));
+            } catch (Exception e) {
+                fail(e, stage, name);
+            }
+        }
+        stage++;
+        return this;
+    }
+
+    /**
+     * Applies a type-changing transformation to the value if the current state is {@code ok()}.
+     *
+     * @param transformer a function to apply to the current value
+     * @param <R>         the new value type
+     * @return a new Pipe of the new type (for chaining)
+     */
+    public <R> Pipe<R> map(AnuKit.SafeTransformer<T, R> transformer) {
+        return map(null, transformer);
+    }
+
+    /**
+     * Applies a named, type-changing transformation to the value if the current state is {@code ok()}.
+     * The name only appears in the error context if this stage fails.
+     *
+     * @param name        the stage name
+     * @param transformer a function to apply to the current value
+     * @param <R>         the new value type
+     * @return a new Pipe of the new type (for chaining)
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Pipe<R> map(String name, AnuKit.SafeTransformer<T, R> transformer) {
+        Pipe<R> next = branch();
+        if (state == Result.State.OK) {
+            try {
+                next.advance(transformer.apply((T) value));
+            } catch (Exception e) {
+                next.fail(e, stage, name);
+            }
+        }
+        next.stage++;
+        return next;
+    }
+
+    /**
+     * Applies a transformation that itself returns a {@link Result}, adopting its state.
+     * An {@code err} result fails the pipe; a {@code none} result empties it.
+     *
+     * @param transformer a function to apply to the current value
+     * @param <R>         the new value type
+     * @return a new Pipe of the new type (for chaining)
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Pipe<R> flatMap(AnuKit.SafeTransformer<T, Result<R, ? extends Exception>> transformer) {
+        Pipe<R> next = branch();
+        if (state == Result.State.OK) {
+            try {
+                Result<R, ? extends Exception> mapped = transformer.apply((T) value);
+                if (mapped.isOk()) {
+                    next.advance(mapped.unwrapOrThrow());
+                } else if (mapped.isErr()) {
+                    next.fail(mapped.getError(), stage, null);
+                    next.failedContext = mapped.getContext();
+                } else {
+                    next.empty();
+                }
+            } catch (Exception e) {
+                next.fail(e, stage, null);
+            }
         }
+        next.stage++;
+        return next;
+    }
+
+    /**
+     * Keeps the value only if it matches the predicate; otherwise the pipe becomes {@code none}.
+     *
+     * @param predicate the condition the value must satisfy
+     * @return this Pipe (for chaining)
+     */
+    @SuppressWarnings("unchecked")
+    public Pipe<T> filter(AnuKit.SafePredicate<T> predicate) {
+        if (state == Result.State.OK) {
+            try {
+                if (!predicate.test((T) value)) {
+                    empty();
+                }
+            } catch (Exception e) {
+                fail(e, stage, null);
+            }
+        }
+        stage++;
         return this;
     }
 
+    /**
+     * Returns the current {@link Result} representing the state of transformation.
+     *
+     * @return {@code ok} with the value, {@code err} with the first error, or {@code none} if filtered out
+     */
+    @SuppressWarnings("unchecked")
+    public Result<T, Exception> getResult() {
+        if (result == null) {
+            switch (state) {
+                case OK:
+                    result = Result.ok((T) value);
+                    break;
+                case ERR:
+                    result = failedStage == ErrorContext.NO_STAGE
+                            ? Result.err(error, failedContext)
+                            : Result.<T, Exception>err(error, failedContext).withStage(failedStage, failedName);
+                    break;
+                default:
+                    result = Result.none();
+            }
+        }
+        return result;
+    }
+
     /**
      * Applies a final transformation to the internal {@link Result}, producing a new {@link Result}.
      *
@@ -58,7 +222,7 @@ public class Pipe<T> {
      * @return new transformed {@link Result}
      */
     public <R> Result<R, Exception> mapResult(AnuKit.Transformer<Result<T, Exception>, R> transformer) {
-        return AnuKit.tryWrap(() -> transformer.transform(result));
+        return AnuKit.tryWrap(() -> transformer.transform(getResult()));
     }
 
     /**
@@ -71,4 +235,41 @@ public class Pipe<T> {
     public static <T> Pipe<T> of(T value) {
         return new Pipe<>(value);
     }
+
+    // ====== Internal Utility ======
+
+    /**
+     * Returns a new pipe with this pipe's state, for a stage that changes the value type.
+     */
+    private <R> Pipe<R> branch() {
+        Pipe<R> next = new Pipe<>();
+        next.state = state;
+        next.value = value;
+        next.error = error;
+        next.stage = stage;
+        next.failedStage = failedStage;
+        next.failedName = failedName;
+        next.failedContext = failedContext;
+        return next;
+    }
+
+    private void advance(Object next) {
+        this.value = next;
+        this.result = null;
+    }
+
+    private void fail(Exception e, int stage, String name) {
+        this.state = Result.State.ERR;
+        this.value = null;
+        this.error = e;
+        this.failedStage = stage;
+        this.failedName = name;
+        this.result = null;
+    }
+
+    private void empty() {
+        this.state = Result.State.NONE;
+        this.value = null;
+        this.result = null;
+    }
 }
@@ -0,0 +1,173 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.result.ErrorContext;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.Arrays;
+
+/**
+ * A reusable, precompiled {@link Pipe}: the stages are defined once and then applied to any number of inputs.
+ * <p>
+ * Templates are immutable and thread-safe; every {@code then}/{@code map} call returns a new template.
+ * Applying a template runs all stages inside a single try block, so {@link #run(Object)} allocates exactly
+ * one {@link Result} per input and {@link #apply(Object)} allocates none. An error from {@link #run(Object)}
+ * carries an {@link ErrorContext} frame with the zero-based index and, if given, the name of the failing stage.
+ * <p>
+ * Because a template is a {@link AnuKit.SafeTransformer}, it can be passed directly to
+ * {@link AnuKit.ResultStreamHolder#mapSafe(AnuKit.SafeTransformer)}.
+ *
+ * <pre>{@code
+ * PipeTemplate<String, Integer> parse = PipeTemplate.<String>start()
+ *     .then(String::trim)
+ *     .map(Integer::parseInt);
+ *
+ * Result<Integer, Exception> result = parse.run(" 42 ");
+ * }</pre>
+ *
+ * @param <I> the input type
+ * @param <O> the output type
+ */
+public final class PipeTemplate<I, O> implements AnuKit.SafeTransformer<I, O> {
+
+    private static final PipeTemplate<?, ?> IDENTITY = new PipeTemplate<>(new AnuKit.SafeTransformer<?, ?>[0], new String[0]);
+
+    /**
+     * The compiled stages, applied in order. Never mutated after construction.
+     */
+    private final AnuKit.SafeTransformer<Object, Object>[] stages;
+
+    /**
+     * Stage names, parallel to {@link #stages}; {@code null} for unnamed stages.
+     */
+    private final String[] names;
+
+    private PipeTemplate(AnuKit.SafeTransformer<?, ?>[] stages, String[] names) {
+        @SuppressWarnings("unchecked")
+        AnuKit.SafeTransformer<Object, Object>[] erased = (AnuKit.SafeTransformer<Object, Object>[]) stages;
+        this.stages = erased;
+        this.names = names;
+    }
+
+    /**
+     * Starts an empty template whose output is its input.
+     *
+     * @param <T> the input type
+     * @return an identity template
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PipeTemplate<T, T> start() {
+        return (PipeTemplate<T, T>) IDENTITY;
+    }
+
+    /**
+     * Appends a stage that keeps the value type.
+     *
+     * @param modifier a function to apply to the current value
+     * @return a new template with the stage appended
+     */
+    public PipeTemplate<I, O> then(AnuKit.Modifier<O> modifier) {
+        return append(null, modifier::modify);
+    }
+
+    /**
+     * Appends a named stage that keeps the value type; the name appears in the error context if it fails.
+     *
+     * @param name     the stage name
+     * @param modifier a function to apply to the current value
+     * @return a new template with the stage appended
+     */
+    public PipeTemplate<I, O> then(String name, AnuKit.Modifier<O> modifier) {
+        return append(name, modifier::modify);
+    }
+
+    /**
+     * Appends a stage that may change the value type and may throw.
+     *
+     * @param transformer a function to apply to the current value
+     * @param <R>         the new output type
+     * @return a new template with the stage appended
+     */
+    public <R> PipeTemplate<I, R> map(AnuKit.SafeTransformer<O, R> transformer) {
+        return append(null, transformer);
+    }
+
+    /**
+     * Appends a named stage that may change the value type and may throw;
+     * the name appears in the error context if it fails.
+     *
+     * @param name        the stage name
+     * @param transformer a function to apply to the current value
+     * @param <R>         the new output type
+     * @return a new template with the stage appended
+     */
+    public <R> PipeTemplate<I, R> map(String name, AnuKit.SafeTransformer<O, R> transformer) {
+        return append(name, transformer);
+    }
+
+    /**
+     * Returns the number of stages in this template.
+     */
+    public int size() {
+        return stages.length;
+    }
+
+    /**
+     * Runs all stages on the input and returns the raw output, without allocating a {@link Result}.
+     *
+     * @param input the input value
+     * @return the output of the last stage
+     * @throws Exception the first exception thrown by any stage
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public O apply(I input) throws Exception {
+        Object value = input;
+        for (AnuKit.SafeTransformer<Object, Object> stage : stages) {
+            value = stage.apply(value);
+        }
+        return (O) value;
+    }
+
+    /**
+     * Runs all stages on the input, capturing the outcome as a single {@link Result}.
+     *
+     * @param input the input value
+     * @return {@code ok} with the output, or {@code err} with the first exception thrown
+     */
+    @SuppressWarnings("unchecked")
+    public Result<O, Exception> run(I input) {
+        Object value = input;
+        int i = 0;
+        try {
+            for (; i < stages.length; i++) {
+                value = stages[i].apply(value);
+            }
+            return Result.ok((O) value);
+        } catch (Exception e) {
+            return Result.<O, Exception>err(e).withStage(i, names[i]);
+        }
+    }
+
+    /**
+     * Runs all stages on the input, returning {@code fallback} if any stage throws.
+     *
+     * @param input    the input value
+     * @param fallback the value to return on error
+     * @return the output of the last stage, or the fallback
+     */
+    public O applyOr(I input, O fallback) {
+        try {
+            return apply(input);
+        } catch (Exception e) {
+            return fallback;
+        }
+    }
+
+    private <R> PipeTemplate<I, R> append(String name, AnuKit.SafeTransformer<O, R> stage) {
+        AnuKit.SafeTransformer<?, ?>[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = stage;
+        String[] nextNames = Arrays.copyOf(names, names.length + 1);
+        nextNames[names.length] = name;
+        return new PipeTemplate<>(next, nextNames);
+    }
+}
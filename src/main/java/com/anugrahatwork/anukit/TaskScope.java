@@ -0,0 +1,386 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.resilience.AllAttemptsFailedException;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A scope for sibling {@link AnuKit.CheckedSupplier} tasks that all belong to one unit of work.
+ * <p>
+ * Tasks are {@linkplain #fork forked} into the scope and run on its executor. Depending on the {@link Policy},
+ * the first {@code err} or the first {@code ok} shuts the scope down: tasks that have not started yet never run
+ * and running tasks are interrupted. {@link #join()} and {@link #close()} return only once every forked task has
+ * finished, so no task outlives the scope. Interrupting the thread waiting in {@code join} shuts the scope down too,
+ * which propagates the interruption to the running tasks.
+ *
+ * <pre>{@code
+ * try (TaskScope<Orders> scope = TaskScope.cancelOnFirstErr()) {
+ *     TaskScope.Subtask<Orders> pending = scope.fork(() -> orderService.loadPending(id));
+ *     TaskScope.Subtask<Orders> shipped = scope.fork(() -> orderService.loadShipped(id));
+ *     Result<List<Orders>, Exception> both = scope.join();
+ * }
+ * }</pre>
+ * <p>
+ * Tasks should respond to interruption, as with {@link java.util.concurrent.Future#cancel(boolean)};
+ * a task that ignores it keeps {@code join} and {@code close} waiting until it returns.
+ *
+ * @param <T> the value type of the tasks
+ */
+public final class TaskScope<T> implements AutoCloseable {
+
+    /**
+     * When a scope shuts down by itself.
+     */
+    public enum Policy {
+        /**
+         * Never; all tasks run to completion.
+         */
+        AWAIT_ALL,
+        /**
+         * On the first task completing with {@code err}, cancelling its siblings.
+         */
+        CANCEL_ON_FIRST_ERR,
+        /**
+         * On the first task completing with {@code ok}, cancelling its siblings.
+         */
+        RETURN_ON_FIRST_OK
+    }
+
+    private final Policy policy;
+    private final Executor executor;
+    private final Object lock = new Object();
+    private final List<Subtask<T>> subtasks = new ArrayList<>();
+    private final List<Exception> errors = new ArrayList<>();
+
+    private int pending;
+    private boolean shutdown;
+    private boolean closed;
+    private Subtask<T> firstOk;
+    private Subtask<T> firstErr;
+
+    private TaskScope(Policy policy, Executor executor) {
+        this.policy = policy;
+        this.executor = executor;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Opens a scope running its tasks on the {@linkplain AnuKit#getDefaultExecutor() default executor}.
+     *
+     * @param policy when the scope shuts down by itself
+     * @param <T>    the value type of the tasks
+     * @return a new scope
+     */
+    public static <T> TaskScope<T> open(Policy policy) {
+        return open(policy, AnuKit.getDefaultExecutor());
+    }
+
+    /**
+     * Opens a scope running its tasks on the given executor.
+     *
+     * @param policy   when the scope shuts down by itself
+     * @param executor the executor to run the tasks on
+     * @param <T>      the value type of the tasks
+     * @return a new scope
+     */
+    public static <T> TaskScope<T> open(Policy policy, Executor executor) {
+        if (policy == null) throw new IllegalArgumentException("policy must not be null");
+        if (executor == null) throw new IllegalArgumentException("executor must not be null");
+        return new TaskScope<>(policy, executor);
+    }
+
+    /**
+     * Opens a scope that cancels all tasks once one fails; see {@link Policy#CANCEL_ON_FIRST_ERR}.
+     */
+    public static <T> TaskScope<T> cancelOnFirstErr() {
+        return open(Policy.CANCEL_ON_FIRST_ERR);
+    }
+
+    /**
+     * Opens a scope that cancels all tasks once one succeeds; see {@link Policy#RETURN_ON_FIRST_OK}.
+     */
+    public static <T> TaskScope<T> returnOnFirstOk() {
+        return open(Policy.RETURN_ON_FIRST_OK);
+    }
+
+    // ====== Forking and Joining ======
+
+    /**
+     * Starts a task in this scope. If the scope is already shut down, the task is cancelled without running.
+     *
+     * @param supplier the task
+     * @return a handle to the task's result
+     * @throws IllegalStateException if the scope is closed
+     */
+    public Subtask<T> fork(AnuKit.CheckedSupplier<? extends T> supplier) {
+        Subtask<T> subtask;
+        synchronized (lock) {
+            if (closed) throw new IllegalStateException("scope is closed");
+            subtask = new Subtask<>(this, subtasks.size(), supplier);
+            subtasks.add(subtask);
+            pending++;
+            if (shutdown) {
+                subtask.cancel();
+                return subtask;
+            }
+        }
+        try {
+            executor.execute(subtask::run);
+        } catch (RuntimeException rejected) {
+            subtask.reject(rejected);
+        }
+        return subtask;
+    }
+
+    /**
+     * Waits until every task has finished or was cancelled, and combines their results.
+     *
+     * @return {@code ok} with the values of all tasks in fork order; otherwise the first {@code err} to complete,
+     * with the failing task's index as context, or {@code err} with {@link InterruptedException} if the waiting
+     * thread was interrupted (its interrupt status is restored)
+     */
+    public Result<List<T>, Exception> join() {
+        if (!awaitTasks()) return Result.err(new InterruptedException("interrupted while joining"));
+        synchronized (lock) {
+            if (firstErr != null) {
+                return Result.<List<T>, Exception>err(firstErr.result.getError()).withContext("task {}", firstErr.index);
+            }
+            List<T> values = new ArrayList<>(subtasks.size());
+            for (Subtask<T> subtask : subtasks) {
+                if (!subtask.result.isOk()) {
+                    return Result.<List<T>, Exception>err(subtask.result.getError()).withContext("task {}", subtask.index);
+                }
+                values.add(subtask.result.unwrapOrThrow());
+            }
+            return Result.ok(values);
+        }
+    }
+
+    /**
+     * Waits until every task has finished or was cancelled, and returns the first successful value.
+     * Intended for {@link Policy#RETURN_ON_FIRST_OK} scopes.
+     *
+     * @return {@code ok} with the value of the first task to succeed; otherwise {@code err} with an
+     * {@link AllAttemptsFailedException} holding every error in completion order, or with
+     * {@link InterruptedException} if the waiting thread was interrupted (its interrupt status is restored)
+     */
+    public Result<T, Exception> joinFirst() {
+        if (!awaitTasks()) return Result.err(new InterruptedException("interrupted while joining"));
+        synchronized (lock) {
+            if (firstOk != null) return firstOk.result;
+            return Result.err(new AllAttemptsFailedException(new ArrayList<>(errors)));
+        }
+    }
+
+    /**
+     * Cancels every task that has not finished yet: tasks that have not started never run,
+     * running tasks are interrupted. Tasks forked afterwards are cancelled immediately.
+     */
+    public void shutdown() {
+        List<Subtask<T>> toCancel;
+        synchronized (lock) {
+            if (shutdown) return;
+            shutdown = true;
+            toCancel = new ArrayList<>(subtasks);
+        }
+        for (Subtask<T> subtask : toCancel) subtask.cancel();
+    }
+
+    /**
+     * Returns {@code true} if the scope was shut down, by its policy or by {@link #shutdown()}.
+     */
+    public boolean isShutdown() {
+        synchronized (lock) {
+            return shutdown;
+        }
+    }
+
+    /**
+     * Shuts the scope down and waits for every task to finish. Further forks are rejected.
+     * If the calling thread is interrupted while waiting, it keeps waiting and its interrupt status is restored.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        shutdown();
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (pending > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    // ====== Internal Utility ======
+
+    /**
+     * Waits for all tasks; on interruption, shuts the scope down, waits for the tasks and returns {@code false}.
+     */
+    private boolean awaitTasks() {
+        try {
+            synchronized (lock) {
+                while (pending > 0) lock.wait();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void completed(Subtask<T> subtask, boolean cancelled) {
+        boolean shutdownNow = false;
+        synchronized (lock) {
+            if (!cancelled && !shutdown) {
+                Result<T, Exception> result = subtask.result;
+                if (result.isOk()) {
+                    if (firstOk == null) firstOk = subtask;
+                    shutdownNow = policy == Policy.RETURN_ON_FIRST_OK;
+                } else {
+                    errors.add(result.getError());
+                    if (firstErr == null) firstErr = subtask;
+                    shutdownNow = policy == Policy.CANCEL_ON_FIRST_ERR;
+                }
+            }
+            if (--pending == 0) lock.notifyAll();
+        }
+        if (shutdownNow) shutdown();
+    }
+
+    /**
+     * A task forked into a {@link TaskScope}.
+     *
+     * @param <T> the value type of the task
+     */
+    public static final class Subtask<T> {
+
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+
+        private final TaskScope<T> scope;
+        private final int index;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private AnuKit.CheckedSupplier<? extends T> supplier;
+        private Thread runner;
+        private boolean interrupted;
+        private volatile Result<T, Exception> result;
+
+        private Subtask(TaskScope<T> scope, int index, AnuKit.CheckedSupplier<? extends T> supplier) {
+            this.scope = scope;
+            this.index = index;
+            this.supplier = supplier;
+        }
+
+        /**
+         * Returns the index of this task in fork order.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns {@code true} once the task has finished or was cancelled.
+         */
+        public boolean isDone() {
+            return result != null;
+        }
+
+        /**
+         * Returns {@code true} if the task was cancelled before it started, or interrupted by a shutdown.
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Returns the task's result: its value or error, or {@code err} with a {@link CancellationException}
+         * if it was cancelled before it started.
+         *
+         * @throws IllegalStateException if the task has not finished yet
+         */
+        public Result<T, Exception> getResult() {
+            Result<T, Exception> current = result;
+            if (current == null) throw new IllegalStateException("task " + index + " has not finished");
+            return current;
+        }
+
+        private void run() {
+            if (!state.compareAndSet(NEW, RUNNING)) return;
+            boolean started;
+            synchronized (this) {
+                // cancel() may have run between the state change and here, before there was a thread to interrupt
+                started = state.get() != CANCELLED;
+                if (started) runner = Thread.currentThread();
+            }
+            if (!started) {
+                supplier = null;
+                result = Result.err(new CancellationException("task " + index + " cancelled"));
+                scope.completed(this, true);
+                return;
+            }
+            Result<T, Exception> outcome;
+            Error fatal = null;
+            try {
+                outcome = AnuKit.tryWrap(supplier::get);
+            } catch (Error e) {
+                fatal = e;
+                outcome = Result.err(new ExecutionException(e));
+            } finally {
+                boolean clear;
+                synchronized (this) {
+                    runner = null;
+                    clear = interrupted;
+                }
+                // clears only an interrupt delivered by cancel(), so it cannot leak into the executor's next task
+                // while a pool shutdown still gets through
+                if (clear) Thread.interrupted();
+            }
+            supplier = null;
+            result = outcome;
+            boolean cancelled = !state.compareAndSet(RUNNING, DONE);
+            scope.completed(this, cancelled);
+            if (fatal != null) throw fatal;
+        }
+
+        private void cancel() {
+            if (state.compareAndSet(NEW, CANCELLED)) {
+                supplier = null;
+                result = Result.err(new CancellationException("task " + index + " cancelled"));
+                scope.completed(this, true);
+                return;
+            }
+            if (state.compareAndSet(RUNNING, CANCELLED)) {
+                synchronized (this) {
+                    if (runner != null) {
+                        runner.interrupt();
+                        interrupted = true;
+                    }
+                }
+            }
+        }
+
+        private void reject(RuntimeException rejected) {
+            if (!state.compareAndSet(NEW, DONE)) return;
+            supplier = null;
+            result = Result.err(rejected);
+            scope.completed(this, false);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.anugrahatwork.anukit.cache;
+
+import lombok.Getter;
+
+/**
+ * A point-in-time snapshot of a {@link ResultCache}'s counters.
+ */
+@Getter
+public final class CacheStats {
+
+    /**
+     * Lookups answered from the cache, including cached errors.
+     */
+    private final long hitCount;
+
+    /**
+     * Lookups that ran the loader.
+     */
+    private final long missCount;
+
+    /**
+     * Entries removed to stay within the size or weight bound.
+     */
+    private final long evictionCount;
+
+    /**
+     * Entries dropped because their time to live elapsed.
+     */
+    private final long expirationCount;
+
+    CacheStats(long hitCount, long missCount, long evictionCount, long expirationCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that were hits, or {@code 1} if there were no lookups.
+     */
+    public double hitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 1.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                + ", expirations=" + expirationCount + "}";
+    }
+}
@@ -0,0 +1,325 @@
+package com.anugrahatwork.anukit.cache;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A memoizing {@link AnuKit.SafeTransformer} backed by a bounded, concurrent, least-recently-used cache.
+ * <p>
+ * Both outcomes of the loader are cached: {@code ok} values for {@code okTtl}, and errors for the usually
+ * much shorter {@code errTtl}, so a key known to be bad is not retried on every lookup. The cache is bounded
+ * by entry count or, with a {@link Weigher}, by total weight; the least recently used entries are evicted first.
+ * <p>
+ * The cache is split into independently locked segments, so lookups of different keys rarely contend.
+ * The loader runs outside any lock; two threads missing the same key at once may both run it.
+ * <p>
+ * Since it is itself a {@link AnuKit.SafeTransformer}, a cache can be used wherever a transformer is expected,
+ * for example {@code AnuKit.safeMap(id, fallback, cache)}.
+ *
+ * <pre>{@code
+ * ResultCache<String, User> users = ResultCache.memoize(repository::load)
+ *     .withMaximumSize(50_000)
+ *     .withOkTtl(10, TimeUnit.MINUTES)
+ *     .withErrTtl(5, TimeUnit.SECONDS);
+ *
+ * Result<User, Exception> user = users.get("42");
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class ResultCache<K, V> implements AnuKit.SafeTransformer<K, V> {
+
+    /**
+     * Computes the weight of a cached value for weight-bounded caches. Errors always weigh 1.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface Weigher<K, V> {
+        int weigh(K key, V value);
+    }
+
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_WEIGHT = 32;
+
+    private final AnuKit.SafeTransformer<? super K, ? extends V> loader;
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final long okTtlNanos;
+    private final long errTtlNanos;
+
+    private final Segment<K, V>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private ResultCache(AnuKit.SafeTransformer<? super K, ? extends V> loader, long maximumWeight,
+                        Weigher<? super K, ? super V> weigher, long okTtlNanos, long errTtlNanos) {
+        this.loader = loader;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.okTtlNanos = okTtlNanos;
+        this.errTtlNanos = errTtlNanos;
+
+        int count = 1;
+        while (count < MAX_SEGMENTS && maximumWeight / (count * 2L) >= MIN_SEGMENT_WEIGHT) count *= 2;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Segment<K, V>[] created = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            created[i] = new Segment<>(maximumWeight / count + (i < maximumWeight % count ? 1 : 0));
+        }
+        this.segments = created;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a cache of the loader's results holding at most 10 000 entries.
+     * {@code ok} values never expire; errors expire after one second.
+     *
+     * @param loader computes the value for a key on a miss
+     * @param <K>    the key type
+     * @param <V>    the value type
+     * @return a new, empty cache
+     */
+    public static <K, V> ResultCache<K, V> memoize(AnuKit.SafeTransformer<? super K, ? extends V> loader) {
+        return new ResultCache<>(loader, 10_000, null, NEVER, TimeUnit.SECONDS.toNanos(1));
+    }
+
+    // ====== Configuration ======
+
+    /**
+     * Returns a new, empty cache holding at most {@code maximumSize} entries.
+     *
+     * @param maximumSize maximum number of entries, at least 0
+     * @return a new, empty cache
+     */
+    public ResultCache<K, V> withMaximumSize(long maximumSize) {
+        if (maximumSize < 0) throw new IllegalArgumentException("maximumSize must be >= 0: " + maximumSize);
+        return new ResultCache<>(loader, maximumSize, null, okTtlNanos, errTtlNanos);
+    }
+
+    /**
+     * Returns a new, empty cache whose entries weigh at most {@code maximumWeight} in total.
+     * A single value heavier than a segment's share of the bound is returned but not cached.
+     *
+     * @param maximumWeight maximum total weight, at least 0
+     * @param weigher       computes the weight of each {@code ok} value; must not be negative
+     * @return a new, empty cache
+     */
+    public ResultCache<K, V> withMaximumWeight(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        if (maximumWeight < 0) throw new IllegalArgumentException("maximumWeight must be >= 0: " + maximumWeight);
+        return new ResultCache<>(loader, maximumWeight, weigher, okTtlNanos, errTtlNanos);
+    }
+
+    /**
+     * Returns a new, empty cache expiring {@code ok} values the given time after they were loaded;
+     * {@code 0} disables caching of {@code ok} values, so only errors are cached.
+     *
+     * @param ttl  time to live of {@code ok} values
+     * @param unit unit of {@code ttl}
+     * @return a new, empty cache
+     */
+    public ResultCache<K, V> withOkTtl(long ttl, TimeUnit unit) {
+        if (ttl < 0) throw new IllegalArgumentException("ttl must be >= 0: " + ttl);
+        return new ResultCache<>(loader, maximumWeight, weigher, unit.toNanos(ttl), errTtlNanos);
+    }
+
+    /**
+     * Returns a new, empty cache expiring errors the given time after they were loaded;
+     * {@code 0} disables negative caching.
+     *
+     * @param ttl  time to live of errors
+     * @param unit unit of {@code ttl}
+     * @return a new, empty cache
+     */
+    public ResultCache<K, V> withErrTtl(long ttl, TimeUnit unit) {
+        if (ttl < 0) throw new IllegalArgumentException("ttl must be >= 0: " + ttl);
+        return new ResultCache<>(loader, maximumWeight, weigher, okTtlNanos, unit.toNanos(ttl));
+    }
+
+    // ====== Lookup ======
+
+    /**
+     * Returns the cached result for the key, loading and caching it on a miss.
+     *
+     * @param key the key
+     * @return the {@code ok} value or the error the loader produced for this key
+     */
+    public Result<V, Exception> get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        Result<V, Exception> cached = segment.get(key, this);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        Result<V, Exception> loaded;
+        try {
+            loaded = Result.ok(loader.apply(key));
+        } catch (Exception e) {
+            loaded = Result.err(e);
+        }
+        long ttl = loaded.isOk() ? okTtlNanos : errTtlNanos;
+        if (ttl > 0) {
+            int weight = weigher == null || !loaded.isOk() ? 1 : weigher.weigh(key, loaded.unwrapOrThrow());
+            if (weight < 0) throw new IllegalStateException("negative weight " + weight + " for key " + key);
+            long expiresAt = ttl == NEVER ? NEVER : System.nanoTime() + ttl;
+            segment.put(key, new Entry<>(loaded, expiresAt, weight), this);
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the value for the key, loading it on a miss, or throws the (possibly cached) error.
+     *
+     * @param key the key
+     * @return the value
+     * @throws Exception the error the loader produced for this key
+     */
+    @Override
+    public V apply(K key) throws Exception {
+        Result<V, Exception> result = get(key);
+        if (result.isOk()) return result.unwrapOrThrow();
+        throw result.getError();
+    }
+
+    /**
+     * Returns the cached result for the key without loading it, or {@code null} if absent or expired.
+     * Does not affect the hit and miss counters.
+     *
+     * @param key the key
+     * @return the cached result, or {@code null}
+     */
+    public Result<V, Exception> getIfPresent(K key) {
+        return segmentFor(key).get(key, this);
+    }
+
+    /**
+     * Removes the entry for the key, if any.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        segmentFor(key).remove(key);
+    }
+
+    /**
+     * Removes all entries. Counters are not reset.
+     */
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) segment.clear();
+    }
+
+    /**
+     * Returns the number of entries currently held, including expired ones not yet removed.
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) size += segment.size();
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, eviction and expiration counters.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    // ====== Internal Utility ======
+
+    private Segment<K, V> segmentFor(K key) {
+        if (segments.length == 1) return segments[0];
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        return segments[h & (segments.length - 1)];
+    }
+
+    private static final class Entry<V> {
+        final Result<V, Exception> result;
+        final long expiresAt;
+        final int weight;
+
+        Entry(Result<V, Exception> result, long expiresAt, int weight) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+            this.weight = weight;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != NEVER && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * One independently locked part of the cache, in access order so the eldest entry is the least recently used.
+     */
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final long capacity;
+        private long weight;
+
+        Segment(long capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized Result<V, Exception> get(K key, ResultCache<K, V> cache) {
+            Entry<V> entry = map.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt != NEVER && entry.isExpired(System.nanoTime())) {
+                map.remove(key);
+                weight -= entry.weight;
+                cache.expirations.increment();
+                return null;
+            }
+            return entry.result;
+        }
+
+        synchronized void put(K key, Entry<V> entry, ResultCache<K, V> cache) {
+            if (entry.weight > capacity) return;
+            Entry<V> previous = map.put(key, entry);
+            if (previous != null) weight -= previous.weight;
+            weight += entry.weight;
+            if (weight <= capacity) return;
+
+            long now = System.nanoTime();
+            Iterator<Map.Entry<K, Entry<V>>> eldest = map.entrySet().iterator();
+            while (weight > capacity && eldest.hasNext()) {
+                Map.Entry<K, Entry<V>> candidate = eldest.next();
+                if (candidate.getValue() == entry) continue;
+                eldest.remove();
+                weight -= candidate.getValue().weight;
+                if (candidate.getValue().isExpired(now)) {
+                    cache.expirations.increment();
+                } else {
+                    cache.evictions.increment();
+                }
+            }
+        }
+
+        synchronized void remove(K key) {
+            Entry<V> entry = map.remove(key);
+            if (entry != null) weight -= entry.weight;
+        }
+
+        synchronized void clear() {
+            map.clear();
+            weight = 0;
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.anugrahatwork.anukit.cache;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent asynchronous calls for equal keys into a single execution.
+ * <p>
+ * While a call for a key is in flight, further calls for an equal key do not run their supplier; they
+ * receive the outcome of the running one. The entry is removed as soon as the call completes, unless a
+ * reuse window is configured, in which case calls arriving within the window after completion still
+ * receive that outcome, errors included.
+ * <p>
+ * Each caller gets its own dependent future, so cancelling it does not affect the other callers.
+ *
+ * <pre>{@code
+ * SingleFlight<String, Config> configs = SingleFlight.<String, Config>create()
+ *     .withReuseWindow(100, TimeUnit.MILLISECONDS);
+ *
+ * configs.tryWrapAsync(name, () -> backend.load(name));
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <T> the value type
+ */
+public final class SingleFlight<K, T> {
+
+    private final long reuseNanos;
+    private final ConcurrentHashMap<K, Flight<K, T>> flights = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Flight<K, T>> completed = new ConcurrentLinkedQueue<>();
+
+    private SingleFlight(long reuseNanos) {
+        this.reuseNanos = reuseNanos;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a coalescer that only shares calls while they are in flight.
+     *
+     * @param <K> the key type
+     * @param <T> the value type
+     * @return a new coalescer
+     */
+    public static <K, T> SingleFlight<K, T> create() {
+        return new SingleFlight<>(0);
+    }
+
+    /**
+     * Returns a new coalescer that also hands out completed outcomes for the given time after completion.
+     *
+     * @param window how long a completed outcome is reused; {@code 0} disables reuse
+     * @param unit   unit of {@code window}
+     * @return a new coalescer
+     */
+    public SingleFlight<K, T> withReuseWindow(long window, TimeUnit unit) {
+        if (window < 0) throw new IllegalArgumentException("window must be >= 0: " + window);
+        return new SingleFlight<>(unit.toNanos(window));
+    }
+
+    // ====== Execution ======
+
+    /**
+     * Runs the supplier on the {@linkplain AnuKit#getDefaultExecutor() default executor},
+     * unless a call for an equal key is already in flight.
+     *
+     * @param key      identifies equivalent calls
+     * @param supplier function that may throw
+     * @return a future of the shared result
+     */
+    public CompletableFuture<Result<T, Exception>> tryWrapAsync(K key, AnuKit.CheckedSupplier<T> supplier) {
+        return tryWrapAsync(key, supplier, AnuKit.getDefaultExecutor());
+    }
+
+    /**
+     * Runs the supplier on the given executor, unless a call for an equal key is already in flight.
+     *
+     * @param key      identifies equivalent calls
+     * @param supplier function that may throw
+     * @param executor runs the supplier if no call is in flight
+     * @return a future of the shared result
+     */
+    public CompletableFuture<Result<T, Exception>> tryWrapAsync(K key, AnuKit.CheckedSupplier<T> supplier, Executor executor) {
+        long now = reuseNanos > 0 ? System.nanoTime() : 0;
+        if (reuseNanos > 0) expire(now);
+        while (true) {
+            Flight<K, T> flight = flights.get(key);
+            if (flight != null) {
+                if (!flight.future.isDone() || now - flight.completedAt < reuseNanos) {
+                    return flight.future.thenApply(result -> result);
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+            Flight<K, T> created = new Flight<>(key);
+            if (flights.putIfAbsent(key, created) != null) continue;
+            start(created, supplier, executor);
+            return created.future.thenApply(result -> result);
+        }
+    }
+
+    /**
+     * Returns the number of keys currently in flight or within their reuse window.
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    // ====== Internal Utility ======
+
+    private void start(Flight<K, T> flight, AnuKit.CheckedSupplier<T> supplier, Executor executor) {
+        try {
+            executor.execute(() -> {
+                Result<T, Exception> result;
+                try {
+                    result = AnuKit.tryWrap(supplier);
+                } catch (Throwable fatal) {
+                    // an Error escapes tryWrap; fail the waiters and forget the key so later calls can retry
+                    flights.remove(flight.key, flight);
+                    flight.future.completeExceptionally(fatal);
+                    throw fatal;
+                }
+                finish(flight, result);
+            });
+        } catch (RuntimeException rejected) {
+            flights.remove(flight.key, flight);
+            flight.future.complete(Result.err(rejected));
+        }
+    }
+
+    private void finish(Flight<K, T> flight, Result<T, Exception> result) {
+        if (reuseNanos > 0) {
+            flight.completedAt = System.nanoTime();
+            completed.add(flight);
+        } else {
+            flights.remove(flight.key, flight);
+        }
+        flight.future.complete(result);
+    }
+
+    /**
+     * Drops completed flights whose reuse window elapsed; they complete in roughly the order they expire.
+     */
+    private void expire(long now) {
+        Flight<K, T> head;
+        while ((head = completed.peek()) != null && now - head.completedAt >= reuseNanos) {
+            if (completed.remove(head)) flights.remove(head.key, head);
+        }
+    }
+
+    private static final class Flight<K, T> {
+        final K key;
+        final CompletableFuture<Result<T, Exception>> future = new CompletableFuture<>();
+        volatile long completedAt;
+
+        Flight(K key) {
+            this.key = key;
+        }
+    }
+}
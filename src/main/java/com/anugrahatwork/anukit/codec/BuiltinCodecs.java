@@ -0,0 +1,120 @@
+package com.anugrahatwork.anukit.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The codecs returned by the static methods of {@link ValueCodec}.
+ */
+final class BuiltinCodecs {
+
+    private BuiltinCodecs() {
+    }
+
+    static final ValueCodec<String> STRING = new ValueCodec<String>() {
+        @Override
+        public int sizeOf(String value) {
+            return Bytes.sizeOfString(value);
+        }
+
+        @Override
+        public void write(String value, ByteBuffer out) {
+            Bytes.writeString(out, value);
+        }
+
+        @Override
+        public String read(ByteBuffer in) {
+            return Bytes.readString(in);
+        }
+    };
+
+    static final ValueCodec<Integer> INT = new ValueCodec<Integer>() {
+        @Override
+        public int sizeOf(Integer value) {
+            return Bytes.sizeOfVarInt(Bytes.zigZag(value));
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer out) {
+            Bytes.writeVarInt(out, Bytes.zigZag(value));
+        }
+
+        @Override
+        public Integer read(ByteBuffer in) {
+            return Bytes.unZigZag(Bytes.readVarInt(in));
+        }
+    };
+
+    static final ValueCodec<Long> LONG = new ValueCodec<Long>() {
+        @Override
+        public int sizeOf(Long value) {
+            return Bytes.sizeOfVarLong(Bytes.zigZag(value));
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer out) {
+            Bytes.writeVarLong(out, Bytes.zigZag(value));
+        }
+
+        @Override
+        public Long read(ByteBuffer in) {
+            return Bytes.unZigZag(Bytes.readVarLong(in));
+        }
+    };
+
+    static final ValueCodec<Double> DOUBLE = new ValueCodec<Double>() {
+        @Override
+        public int sizeOf(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(Double value, ByteBuffer out) {
+            out.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer in) {
+            return in.getDouble();
+        }
+    };
+
+    static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<Boolean>() {
+        @Override
+        public int sizeOf(Boolean value) {
+            return 1;
+        }
+
+        @Override
+        public void write(Boolean value, ByteBuffer out) {
+            out.put((byte) (value ? 1 : 0));
+        }
+
+        @Override
+        public Boolean read(ByteBuffer in) {
+            return in.get() != 0;
+        }
+    };
+
+    static final ValueCodec<byte[]> BYTES = new ValueCodec<byte[]>() {
+        @Override
+        public int sizeOf(byte[] value) {
+            return Bytes.sizeOfVarInt(value.length) + value.length;
+        }
+
+        @Override
+        public void write(byte[] value, ByteBuffer out) {
+            Bytes.writeVarInt(out, value.length);
+            out.put(value);
+        }
+
+        @Override
+        public byte[] read(ByteBuffer in) {
+            int length = Bytes.readVarInt(in);
+            if (length < 0 || length > in.remaining()) throw new BufferUnderflowException();
+            byte[] value = new byte[length];
+            in.get(value);
+            return value;
+        }
+    };
+}
@@ -0,0 +1,42 @@
+package com.anugrahatwork.anukit.codec;
+
+/**
+ * An exception read back by {@link ExceptionCodec}, standing in for an exception of a class that is not
+ * re-instantiated on decoding.
+ * <p>
+ * It keeps the original class name, message and cause chain, and the original stack trace if it was encoded;
+ * otherwise it has no stack trace. {@link #toString()} renders like the original exception.
+ */
+public class DecodedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String className;
+
+    /**
+     * Constructs a decoded exception.
+     *
+     * @param className  fully qualified class name of the original exception
+     * @param message    the original message, or {@code null}
+     * @param cause      the decoded cause, or {@code null}
+     * @param stackTrace the original stack trace, or {@code null} if it was not encoded
+     */
+    public DecodedException(String className, String message, Throwable cause, StackTraceElement[] stackTrace) {
+        super(message, cause, false, stackTrace != null);
+        this.className = className;
+        if (stackTrace != null) setStackTrace(stackTrace);
+    }
+
+    /**
+     * Returns the fully qualified class name of the original exception.
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public String toString() {
+        String message = getLocalizedMessage();
+        return message != null ? className + ": " + message : className;
+    }
+}
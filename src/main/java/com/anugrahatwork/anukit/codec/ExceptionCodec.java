@@ -0,0 +1,200 @@
+package com.anugrahatwork.anukit.codec;
+
+import com.anugrahatwork.anukit.result.PropagateErrorException;
+import com.anugrahatwork.anukit.result.StackTraceMode;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes exceptions as their class name, message and cause chain, without Java serialization.
+ * <p>
+ * Stack traces are left out unless {@link #withStackTraces(boolean) requested}, which keeps an encoded exception
+ * down to a few dozen bytes. Decoding never instantiates the original classes: a {@link PropagateErrorException}
+ * is rebuilt as one, with its error object decoded if it was a string or an exception (other error objects come back
+ * as their {@code toString()}), and every other exception comes back as a {@link DecodedException} carrying the
+ * original class name. Causes are followed up to a maximum depth.
+ *
+ * <pre>{@code
+ * ResultCodec<String, Exception> codec = ResultCodec.of(ValueCodec.strings(), ExceptionCodec.create());
+ * }</pre>
+ */
+public final class ExceptionCodec implements ValueCodec<Exception> {
+
+    private static final ExceptionCodec DEFAULT = new ExceptionCodec(false, 8);
+
+    /**
+     * Guards against malformed input nesting causes without end; well above any depth a writer would use.
+     */
+    private static final int MAX_READ_DEPTH = 256;
+
+    private static final int PROPAGATE = 1;
+    private static final int HAS_TRACE = 1 << 1;
+    private static final int HAS_CAUSE = 1 << 2;
+
+    private static final int ERROR_NULL = 0;
+    private static final int ERROR_STRING = 1;
+    private static final int ERROR_THROWABLE = 2;
+    private static final int ERROR_CAUSE = 3;
+
+    private final boolean stackTraces;
+    private final int maxCauseDepth;
+
+    private ExceptionCodec(boolean stackTraces, int maxCauseDepth) {
+        this.stackTraces = stackTraces;
+        this.maxCauseDepth = maxCauseDepth;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Returns a codec leaving out stack traces and following at most 8 causes.
+     */
+    public static ExceptionCodec create() {
+        return DEFAULT;
+    }
+
+    // ====== Configuration ======
+
+    /**
+     * Returns a codec that also encodes the stack trace of every exception in the chain.
+     *
+     * @param stackTraces whether to encode stack traces
+     * @return a new codec
+     */
+    public ExceptionCodec withStackTraces(boolean stackTraces) {
+        return new ExceptionCodec(stackTraces, maxCauseDepth);
+    }
+
+    /**
+     * Returns a codec following at most {@code maxCauseDepth} causes; deeper causes are dropped.
+     *
+     * @param maxCauseDepth maximum number of causes, {@code 0} to drop all of them
+     * @return a new codec
+     */
+    public ExceptionCodec withMaxCauseDepth(int maxCauseDepth) {
+        if (maxCauseDepth < 0) throw new IllegalArgumentException("maxCauseDepth must be >= 0: " + maxCauseDepth);
+        return new ExceptionCodec(stackTraces, maxCauseDepth);
+    }
+
+    // ====== Encoding ======
+
+    @Override
+    public int sizeOf(Exception value) {
+        return sizeOf(value, maxCauseDepth);
+    }
+
+    @Override
+    public void write(Exception value, ByteBuffer out) {
+        write(value, out, maxCauseDepth);
+    }
+
+    @Override
+    public Exception read(ByteBuffer in) {
+        return read(in, 0);
+    }
+
+    // ====== Internal Utility ======
+
+    private int sizeOf(Throwable t, int depth) {
+        Throwable cause = t.getCause();
+        boolean writeCause = cause != null && cause != t && depth > 0;
+        int size = 1 + Bytes.sizeOfString(t.getMessage());
+        if (t instanceof PropagateErrorException) {
+            Object error = ((PropagateErrorException) t).getError();
+            size += 1;
+            if (error != cause || !writeCause) {
+                if (error instanceof Throwable && error != t && depth > 0) size += sizeOf((Throwable) error, depth - 1);
+                else if (error != null) size += Bytes.sizeOfString(error.toString());
+            }
+        } else {
+            size += Bytes.sizeOfString(className(t));
+        }
+        if (stackTraces) {
+            StackTraceElement[] trace = t.getStackTrace();
+            size += Bytes.sizeOfVarInt(trace.length);
+            for (StackTraceElement element : trace) {
+                size += Bytes.sizeOfString(element.getClassName())
+                        + Bytes.sizeOfString(element.getMethodName())
+                        + Bytes.sizeOfString(element.getFileName())
+                        + Bytes.sizeOfVarInt(Bytes.zigZag(element.getLineNumber()));
+            }
+        }
+        if (writeCause) size += sizeOf(cause, depth - 1);
+        return size;
+    }
+
+    private void write(Throwable t, ByteBuffer out, int depth) {
+        Throwable cause = t.getCause();
+        boolean writeCause = cause != null && cause != t && depth > 0;
+        boolean propagate = t instanceof PropagateErrorException;
+        out.put((byte) ((propagate ? PROPAGATE : 0) | (stackTraces ? HAS_TRACE : 0) | (writeCause ? HAS_CAUSE : 0)));
+        if (!propagate) Bytes.writeString(out, className(t));
+        Bytes.writeString(out, t.getMessage());
+        if (propagate) {
+            Object error = ((PropagateErrorException) t).getError();
+            if (error == cause && writeCause) {
+                out.put((byte) ERROR_CAUSE);
+            } else if (error instanceof Throwable && error != t && depth > 0) {
+                out.put((byte) ERROR_THROWABLE);
+                write((Throwable) error, out, depth - 1);
+            } else if (error != null) {
+                out.put((byte) ERROR_STRING);
+                Bytes.writeString(out, error.toString());
+            } else {
+                out.put((byte) ERROR_NULL);
+            }
+        }
+        if (stackTraces) {
+            StackTraceElement[] trace = t.getStackTrace();
+            Bytes.writeVarInt(out, trace.length);
+            for (StackTraceElement element : trace) {
+                Bytes.writeString(out, element.getClassName());
+                Bytes.writeString(out, element.getMethodName());
+                Bytes.writeString(out, element.getFileName());
+                Bytes.writeVarInt(out, Bytes.zigZag(element.getLineNumber()));
+            }
+        }
+        if (writeCause) write(cause, out, depth - 1);
+    }
+
+    private Exception read(ByteBuffer in, int depth) {
+        if (depth > MAX_READ_DEPTH) throw new IllegalArgumentException("exception chain deeper than " + MAX_READ_DEPTH);
+        int flags = in.get();
+        boolean propagate = (flags & PROPAGATE) != 0;
+        String className = propagate ? null : Bytes.readString(in);
+        String message = Bytes.readString(in);
+        Object error = null;
+        int kind = ERROR_NULL;
+        if (propagate) {
+            kind = in.get();
+            if (kind == ERROR_THROWABLE) error = read(in, depth + 1);
+            else if (kind == ERROR_STRING) error = Bytes.readString(in);
+        }
+        StackTraceElement[] trace = null;
+        if ((flags & HAS_TRACE) != 0) {
+            int length = Bytes.readVarInt(in);
+            if (length < 0 || length > in.remaining()) throw new BufferUnderflowException();
+            trace = new StackTraceElement[length];
+            for (int i = 0; i < trace.length; i++) {
+                String declaringClass = Bytes.readString(in);
+                String method = Bytes.readString(in);
+                String file = Bytes.readString(in);
+                trace[i] = new StackTraceElement(declaringClass, method, file, Bytes.unZigZag(Bytes.readVarInt(in)));
+            }
+        }
+        Throwable cause = (flags & HAS_CAUSE) != 0 ? read(in, depth + 1) : null;
+        if (propagate) {
+            if (kind == ERROR_CAUSE) error = cause;
+            PropagateErrorException decoded = new PropagateErrorException(message, cause, error,
+                    trace != null ? StackTraceMode.FULL : StackTraceMode.NONE);
+            if (trace != null) decoded.setStackTrace(trace);
+            return decoded;
+        }
+        return new DecodedException(className, message, cause, trace);
+    }
+
+    private static String className(Throwable t) {
+        return t instanceof DecodedException ? ((DecodedException) t).getClassName() : t.getClass().getName();
+    }
+}
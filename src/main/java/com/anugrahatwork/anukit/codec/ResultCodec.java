@@ -0,0 +1,212 @@
+package com.anugrahatwork.anukit.codec;
+
+import com.anugrahatwork.anukit.result.ErrorContext;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A compact binary encoding of {@link Result}s: one header byte for the state, followed by the value or the error
+ * written by a pluggable {@link ValueCodec}, and the error context if there is one.
+ * <p>
+ * Encoding and decoding work directly on a caller-supplied {@link ByteBuffer}, heap or direct, at its position,
+ * so results can be written straight into a cache entry or a network buffer and read back from it without
+ * intermediate arrays. {@link #sizeOf} gives the exact encoded size for pre-sizing. Many results can be written
+ * back to back into one buffer and read back in order.
+ * <p>
+ * An {@code ok(null)} value and an {@code err} without error object are encoded without calling the codec.
+ * The context chain keeps its stage frames; other frames are stored as their formatted text.
+ * A codec is immutable and thread-safe if its value codecs are.
+ *
+ * <pre>{@code
+ * ResultCodec<User, Exception> codec = ResultCodec.of(userCodec, ExceptionCodec.create());
+ * ByteBuffer buffer = codec.encode(result);
+ * Result<User, Exception> copy = codec.decode(buffer);
+ * }</pre>
+ *
+ * @param <T> the type of the success value
+ * @param <E> the type of the error value
+ */
+public final class ResultCodec<T, E> {
+
+    private static final int OK = 0;
+    private static final int ERR = 1;
+    private static final int NONE = 2;
+    private static final int STATE_MASK = 0x03;
+    private static final int NULL_PAYLOAD = 1 << 2;
+    private static final int HAS_CONTEXT = 1 << 3;
+
+    private final ValueCodec<T> values;
+    private final ValueCodec<E> errors;
+
+    private ResultCodec(ValueCodec<T> values, ValueCodec<E> errors) {
+        this.values = values;
+        this.errors = errors;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a codec from codecs for the value and the error.
+     *
+     * @param values codec for {@code ok} values
+     * @param errors codec for {@code err} errors
+     * @param <T>    the type of the success value
+     * @param <E>    the type of the error value
+     * @return a new codec
+     */
+    public static <T, E> ResultCodec<T, E> of(ValueCodec<T> values, ValueCodec<E> errors) {
+        if (values == null || errors == null) throw new IllegalArgumentException("codecs must not be null");
+        return new ResultCodec<>(values, errors);
+    }
+
+    /**
+     * Creates a codec for results with {@link Exception} errors, encoded by {@link ExceptionCodec#create()}
+     * without stack traces.
+     *
+     * @param values codec for {@code ok} values
+     * @param <T>    the type of the success value
+     * @return a new codec
+     */
+    public static <T> ResultCodec<T, Exception> of(ValueCodec<T> values) {
+        return of(values, ExceptionCodec.create());
+    }
+
+    // ====== Encoding ======
+
+    /**
+     * Returns the exact number of bytes {@link #encode(Result, ByteBuffer)} writes for the result.
+     */
+    public int sizeOf(Result<? extends T, ? extends E> result) {
+        switch (result.getState()) {
+            case OK: {
+                T value = result.unwrapOrThrow();
+                return 1 + (value == null ? 0 : values.sizeOf(value));
+            }
+            case ERR: {
+                E error = result.getError();
+                int size = 1 + (error == null ? 0 : errors.sizeOf(error));
+                ErrorContext context = result.getContext();
+                return context == null ? size : size + sizeOf(context);
+            }
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Writes the result at the buffer's position, advancing it.
+     *
+     * @param result the result to encode
+     * @param out    the buffer to write into
+     * @throws java.nio.BufferOverflowException if the buffer has fewer than {@link #sizeOf} bytes remaining
+     */
+    public void encode(Result<? extends T, ? extends E> result, ByteBuffer out) {
+        switch (result.getState()) {
+            case OK: {
+                T value = result.unwrapOrThrow();
+                out.put((byte) (OK | (value == null ? NULL_PAYLOAD : 0)));
+                if (value != null) values.write(value, out);
+                return;
+            }
+            case ERR: {
+                E error = result.getError();
+                ErrorContext context = result.getContext();
+                out.put((byte) (ERR | (error == null ? NULL_PAYLOAD : 0) | (context != null ? HAS_CONTEXT : 0)));
+                if (error != null) errors.write(error, out);
+                if (context != null) write(context, out);
+                return;
+            }
+            default:
+                out.put((byte) NONE);
+        }
+    }
+
+    /**
+     * Encodes the result into a new heap buffer of exactly {@link #sizeOf} bytes, ready to be read.
+     */
+    public ByteBuffer encode(Result<? extends T, ? extends E> result) {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(result));
+        encode(result, buffer);
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    // ====== Decoding ======
+
+    /**
+     * Reads a result written by {@link #encode(Result, ByteBuffer)} at the buffer's position, advancing it.
+     *
+     * @param in the buffer to read from
+     * @return the decoded result
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the result does
+     * @throws IllegalArgumentException          if the header byte is not a valid state
+     */
+    public Result<T, E> decode(ByteBuffer in) {
+        int header = in.get();
+        boolean nullPayload = (header & NULL_PAYLOAD) != 0;
+        switch (header & STATE_MASK) {
+            case OK:
+                return Result.ok(nullPayload ? null : values.read(in));
+            case ERR: {
+                E error = nullPayload ? null : errors.read(in);
+                Result<T, E> result = Result.err(error);
+                return (header & HAS_CONTEXT) != 0 ? readContext(result, in) : result;
+            }
+            case NONE:
+                return Result.none();
+            default:
+                throw new IllegalArgumentException("not an encoded result, header " + header);
+        }
+    }
+
+    // ====== Internal Utility ======
+
+    private static int sizeOf(ErrorContext context) {
+        List<ErrorContext> frames = context.frames();
+        int size = Bytes.sizeOfVarInt(frames.size());
+        for (ErrorContext frame : frames) {
+            boolean stage = frame.getStage() != ErrorContext.NO_STAGE;
+            size += Bytes.sizeOfVarInt(stage ? frame.getStage() + 1 : 0)
+                    + Bytes.sizeOfString(stage ? frame.getOperation() : frame.describe());
+        }
+        return size;
+    }
+
+    /**
+     * Writes the frames outermost first: a varint of the stage index plus one ({@code 0} for other frames),
+     * then the stage name or the formatted frame text.
+     */
+    private static void write(ErrorContext context, ByteBuffer out) {
+        List<ErrorContext> frames = context.frames();
+        Bytes.writeVarInt(out, frames.size());
+        for (ErrorContext frame : frames) {
+            boolean stage = frame.getStage() != ErrorContext.NO_STAGE;
+            Bytes.writeVarInt(out, stage ? frame.getStage() + 1 : 0);
+            Bytes.writeString(out, stage ? frame.getOperation() : frame.describe());
+        }
+    }
+
+    /**
+     * Reads the frames and re-attaches them to the result innermost first, restoring the original order.
+     */
+    private static <T, E> Result<T, E> readContext(Result<T, E> result, ByteBuffer in) {
+        int count = Bytes.readVarInt(in);
+        if (count < 0 || count > in.remaining()) throw new BufferUnderflowException();
+        int[] stages = new int[count];
+        String[] texts = new String[count];
+        for (int i = 0; i < count; i++) {
+            stages[i] = Bytes.readVarInt(in) - 1;
+            texts[i] = Bytes.readString(in);
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            result = stages[i] != ErrorContext.NO_STAGE
+                    ? result.withStage(stages[i], texts[i])
+                    : result.withContext(texts[i]);
+        }
+        return result;
+    }
+}
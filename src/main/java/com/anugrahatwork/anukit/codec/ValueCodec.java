@@ -0,0 +1,106 @@
+package com.anugrahatwork.anukit.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes values of one type into a {@link ByteBuffer} and decodes them back.
+ * <p>
+ * {@link #write} and {@link #read} work at the buffer's position and advance it, and must consume exactly
+ * {@link #sizeOf} bytes. Codecs are used by {@link ResultCodec} for the value and the error of a result;
+ * implement this interface for application types, or use the built-in codecs below.
+ * Unless stated otherwise, codecs do not accept {@code null}; wrap them with {@link #nullable(ValueCodec)}.
+ *
+ * @param <T> the encoded type
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Returns the number of bytes {@link #write} produces for the value.
+     */
+    int sizeOf(T value);
+
+    /**
+     * Writes the value at the buffer's position.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has fewer than {@link #sizeOf} bytes remaining
+     */
+    void write(T value, ByteBuffer out);
+
+    /**
+     * Reads a value written by {@link #write} at the buffer's position.
+     *
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value does
+     */
+    T read(ByteBuffer in);
+
+    // ====== Built-in Codecs ======
+
+    /**
+     * Returns a codec for strings as varint-length-prefixed UTF-8, accepting {@code null}.
+     */
+    static ValueCodec<String> strings() {
+        return BuiltinCodecs.STRING;
+    }
+
+    /**
+     * Returns a codec for integers as zig-zag varints, taking 1 byte for values in {@code [-64, 63]}.
+     */
+    static ValueCodec<Integer> ints() {
+        return BuiltinCodecs.INT;
+    }
+
+    /**
+     * Returns a codec for longs as zig-zag varints.
+     */
+    static ValueCodec<Long> longs() {
+        return BuiltinCodecs.LONG;
+    }
+
+    /**
+     * Returns a codec for doubles as 8 bytes.
+     */
+    static ValueCodec<Double> doubles() {
+        return BuiltinCodecs.DOUBLE;
+    }
+
+    /**
+     * Returns a codec for booleans as 1 byte.
+     */
+    static ValueCodec<Boolean> booleans() {
+        return BuiltinCodecs.BOOLEAN;
+    }
+
+    /**
+     * Returns a codec for byte arrays as a varint length followed by the bytes.
+     */
+    static ValueCodec<byte[]> bytes() {
+        return BuiltinCodecs.BYTES;
+    }
+
+    /**
+     * Returns a codec accepting {@code null} by prefixing each value with a presence byte.
+     *
+     * @param codec codec for the non-null values
+     * @param <T>   the encoded type
+     * @return a codec accepting {@code null}
+     */
+    static <T> ValueCodec<T> nullable(ValueCodec<T> codec) {
+        return new ValueCodec<T>() {
+            @Override
+            public int sizeOf(T value) {
+                return value == null ? 1 : 1 + codec.sizeOf(value);
+            }
+
+            @Override
+            public void write(T value, ByteBuffer out) {
+                out.put((byte) (value == null ? 0 : 1));
+                if (value != null) codec.write(value, out);
+            }
+
+            @Override
+            public T read(ByteBuffer in) {
+                return in.get() == 0 ? null : codec.read(in);
+            }
+        };
+    }
+}
@@ -0,0 +1,392 @@
+package com.anugrahatwork.anukit.io;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the records of a file through memory mapping, without copying or decoding them up front.
+ * <p>
+ * The file is mapped in segments of at most {@code segmentSize} bytes (1 GiB by default), so files of any size
+ * can be read. Every segment ends on a record boundary, which means no record may be longer than a segment.
+ * Records are split on a single delimiter byte and handed out as {@link Record} views into the mapping;
+ * bytes are only decoded when a record is converted to a {@code String}. The delimiter itself is not part
+ * of a record, and a delimiter at the very end of the file does not start another, empty record.
+ * <p>
+ * The {@linkplain #spliterator() spliterator} splits on record boundaries, so {@code records().parallel()}
+ * parses different parts of the file on different threads. {@link #mapSafe} yields one {@link Result} per record
+ * and attaches the record's file offset to the context of every error.
+ *
+ * <pre>{@code
+ * MappedRecordSource source = MappedRecordSource.lines(Paths.get("access.log"));
+ * long failed = source.mapSafe(line -> parse(line.toString()))
+ *     .parallel()
+ *     .filter(Result::isErr)
+ *     .count();
+ * }</pre>
+ * <p>
+ * The mapping stays valid until the source becomes unreachable; the file should not be truncated while it is read.
+ */
+public final class MappedRecordSource {
+
+    private static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+
+    /**
+     * Ranges smaller than this are not split further.
+     */
+    private static final long MIN_SPLIT = 8 * 1024;
+
+    private final Path path;
+    private final byte delimiter;
+    private final boolean trimCarriageReturn;
+    private final Segment[] segments;
+    private final long size;
+
+    private MappedRecordSource(Path path, byte delimiter, boolean trimCarriageReturn, Segment[] segments, long size) {
+        this.path = path;
+        this.delimiter = delimiter;
+        this.trimCarriageReturn = trimCarriageReturn;
+        this.segments = segments;
+        this.size = size;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Maps a text file split into lines. Lines end with {@code \n}; a {@code \r} before it is dropped.
+     *
+     * @param path the file to read
+     * @return a source over the file's lines
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MappedRecordSource lines(Path path) throws IOException {
+        return open(path, (byte) '\n', true, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps a file split into records ending with the given delimiter byte.
+     *
+     * @param path      the file to read
+     * @param delimiter the byte ending each record
+     * @return a source over the file's records
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static MappedRecordSource records(Path path, byte delimiter) throws IOException {
+        return open(path, delimiter, false, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps a file split into records ending with the given delimiter byte, using segments of the given size.
+     *
+     * @param path        the file to read
+     * @param delimiter   the byte ending each record
+     * @param segmentSize maximum bytes per mapped segment, greater than the longest record,
+     *                    at most {@link Integer#MAX_VALUE}
+     * @return a source over the file's records
+     * @throws IOException if the file cannot be opened or mapped, or a record does not fit in a segment
+     */
+    public static MappedRecordSource records(Path path, byte delimiter, long segmentSize) throws IOException {
+        return open(path, delimiter, false, segmentSize);
+    }
+
+    // ====== Accessors ======
+
+    /**
+     * Returns the mapped file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the file size in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of mapped segments.
+     */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    // ====== Streams ======
+
+    /**
+     * Returns a spliterator over all records in file order, splitting on record boundaries.
+     */
+    public Spliterator<Record> spliterator() {
+        return new RecordSpliterator(0, size);
+    }
+
+    /**
+     * Returns a sequential stream of all records in file order; call {@code parallel()} on it to split the file.
+     */
+    public Stream<Record> records() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Wraps the records into a {@link AnuKit.ResultStreamHolder}.
+     */
+    public AnuKit.ResultStreamHolder<Record> wrap() {
+        return AnuKit.wrapSpliterator(spliterator());
+    }
+
+    /**
+     * Applies a function to each record, wrapping the outcomes in {@link Result}s. An error carries
+     * {@code "record at offset N of PATH"} as context, so failures can be located in the file.
+     * The stream can be made parallel.
+     *
+     * @param mapper the transformation to apply
+     * @param <R>    the result type
+     * @return one result per record, in file order
+     */
+    public <R> Stream<Result<R, Exception>> mapSafe(AnuKit.SafeTransformer<Record, R> mapper) {
+        return records().map(record -> {
+            Result<R, Exception> result = AnuKit.tryWrap(() -> mapper.apply(record));
+            return result.isErr() ? result.withContext("record at offset {} of {}", record.offset, path) : result;
+        });
+    }
+
+    // ====== Internal Utility ======
+
+    private static MappedRecordSource open(Path path, byte delimiter, boolean trimCarriageReturn, long segmentSize)
+            throws IOException {
+        if (segmentSize < 1 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentSize must be in [1, " + Integer.MAX_VALUE + "]: " + segmentSize);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Segment> segments = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long window = Math.min(segmentSize, size - start);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, window);
+                int length = (int) window;
+                if (start + window < size) {
+                    length = lastDelimiter(buffer, length, delimiter) + 1;
+                    if (length == 0) {
+                        throw new IOException("record at offset " + start + " of " + path
+                                + " is longer than the segment size " + segmentSize);
+                    }
+                }
+                segments.add(new Segment(start, buffer, length));
+                start += length;
+            }
+            return new MappedRecordSource(path, delimiter, trimCarriageReturn, segments.toArray(new Segment[0]), size);
+        }
+    }
+
+    private static int lastDelimiter(ByteBuffer buffer, int length, byte delimiter) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == delimiter) return i;
+        }
+        return -1;
+    }
+
+    private Segment segmentAt(long offset) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments[mid].start <= offset) low = mid;
+            else high = mid - 1;
+        }
+        return segments[low];
+    }
+
+    /**
+     * Returns the offset just past the end of the record containing {@code offset}.
+     */
+    private long recordEnd(Segment segment, long offset) {
+        ByteBuffer buffer = segment.buffer;
+        int i = (int) (offset - segment.start);
+        while (i < segment.length && buffer.get(i) != delimiter) i++;
+        return segment.start + Math.min(i + 1, segment.length);
+    }
+
+    private static final class Segment {
+        final long start;
+        final ByteBuffer buffer;
+        final int length;
+
+        Segment(long start, ByteBuffer buffer, int length) {
+            this.start = start;
+            this.buffer = buffer;
+            this.length = length;
+        }
+    }
+
+    private final class RecordSpliterator implements Spliterator<Record> {
+        private long position;
+        private final long end;
+        private Segment segment;
+
+        RecordSpliterator(long position, long end) {
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Record> action) {
+            if (position >= end) return false;
+            Segment current = segment;
+            if (current == null || position >= current.start + current.length) {
+                segment = current = segmentAt(position);
+            }
+            ByteBuffer buffer = current.buffer;
+            int from = (int) (position - current.start);
+            int to = from;
+            while (to < current.length && buffer.get(to) != delimiter) to++;
+            int recordEnd = to;
+            if (trimCarriageReturn && recordEnd > from && buffer.get(recordEnd - 1) == '\r') recordEnd--;
+            Record record = new Record(buffer, from, recordEnd - from, position);
+            position = current.start + Math.min(to + 1, current.length);
+            action.accept(record);
+            return true;
+        }
+
+        @Override
+        public Spliterator<Record> trySplit() {
+            long remaining = end - position;
+            if (remaining < MIN_SPLIT) return null;
+            long middle = position + remaining / 2;
+            long boundary = recordEnd(segmentAt(middle), middle);
+            if (boundary >= end) return null;
+            RecordSpliterator prefix = new RecordSpliterator(position, boundary);
+            position = boundary;
+            segment = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * One record: a read-only view of its bytes in the mapped file. Nothing is copied or decoded
+     * until {@link #getBytes()} or {@link #toString()} is called.
+     */
+    public static final class Record {
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int length;
+        private final long offset;
+
+        Record(ByteBuffer buffer, int start, int length, long offset) {
+            this.buffer = buffer;
+            this.start = start;
+            this.length = length;
+            this.offset = offset;
+        }
+
+        /**
+         * Returns the position of the record's first byte in the file.
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Returns the number of bytes in the record, without the delimiter.
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * Returns the byte at the given index of the record.
+         *
+         * @throws IndexOutOfBoundsException if {@code index} is outside the record
+         */
+        public byte byteAt(int index) {
+            if (index < 0 || index >= length) throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+            return buffer.get(start + index);
+        }
+
+        /**
+         * Returns the index of the first occurrence of {@code value} at or after {@code from}, or {@code -1}.
+         * Useful to find field separators without decoding the record.
+         */
+        public int indexOf(byte value, int from) {
+            for (int i = Math.max(0, from); i < length; i++) {
+                if (buffer.get(start + i) == value) return i;
+            }
+            return -1;
+        }
+
+        /**
+         * Returns a read-only buffer over the record's bytes, sharing the mapping.
+         */
+        public ByteBuffer asByteBuffer() {
+            ByteBuffer view = buffer.duplicate();
+            ((Buffer) view).limit(start + length).position(start);
+            return view.slice().asReadOnlyBuffer();
+        }
+
+        /**
+         * Copies the record's bytes into a new array.
+         */
+        public byte[] getBytes() {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) bytes[i] = buffer.get(start + i);
+            return bytes;
+        }
+
+        /**
+         * Decodes the record with the given charset.
+         */
+        public String toString(Charset charset) {
+            return charset.decode(asByteBuffer()).toString();
+        }
+
+        /**
+         * Decodes a part of the record with the given charset.
+         *
+         * @param from    index of the first byte, inclusive
+         * @param to      index of the last byte, exclusive
+         * @param charset the charset to decode with
+         */
+        public String toString(int from, int to, Charset charset) {
+            if (from < 0 || to > length || from > to) {
+                throw new IndexOutOfBoundsException("[" + from + ", " + to + "), length " + length);
+            }
+            ByteBuffer view = buffer.duplicate();
+            ((Buffer) view).limit(start + to).position(start + from);
+            return charset.decode(view).toString();
+        }
+
+        /**
+         * Decodes the record as UTF-8.
+         */
+        @Override
+        public String toString() {
+            return toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.anugrahatwork.anukit.metrics;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Receives snapshots of all operations when {@link Metrics#export(MetricsSink)} runs.
+ * Implement it to forward metrics to a log, a file, or a monitoring system.
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+    void export(List<OperationSnapshot> snapshots) throws Exception;
+
+    /**
+     * Returns a sink printing one line per operation.
+     *
+     * @param out the stream to print to
+     * @return a text sink
+     */
+    static MetricsSink printTo(PrintStream out) {
+        return snapshots -> {
+            for (OperationSnapshot snapshot : snapshots) out.println(snapshot);
+        };
+    }
+}
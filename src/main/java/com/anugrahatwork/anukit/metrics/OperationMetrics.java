@@ -0,0 +1,100 @@
+package com.anugrahatwork.anukit.metrics;
+
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome counters, latency histogram and error-type breakdown of one named operation.
+ * Obtain instances through {@link Metrics#operation(String)}; all methods are thread-safe.
+ */
+public final class OperationMetrics {
+
+    private final String name;
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder err = new LongAdder();
+    private final LongAdder none = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ConcurrentHashMap<Class<?>, LongAdder> errorsByType = new ConcurrentHashMap<>();
+
+    OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the operation name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the latency histogram of this operation.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Records an outcome and its latency.
+     *
+     * @param result the outcome
+     * @param nanos  how long the operation took
+     */
+    public void record(Result<?, ?> result, long nanos) {
+        if (result.isOk()) {
+            ok.increment();
+        } else if (result.isErr()) {
+            recordErrorType(result.getError());
+        } else {
+            none.increment();
+        }
+        latency.record(nanos);
+    }
+
+    /**
+     * Records a successful call and its latency.
+     *
+     * @param nanos how long the operation took
+     */
+    public void recordOk(long nanos) {
+        ok.increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * Records a failed call and its latency.
+     *
+     * @param error the error, counted by its class
+     * @param nanos how long the operation took
+     */
+    public void recordErr(Object error, long nanos) {
+        recordErrorType(error);
+        latency.record(nanos);
+    }
+
+    /**
+     * Returns a point-in-time view of the counters.
+     */
+    public OperationSnapshot snapshot() {
+        Map<String, Long> errors = new TreeMap<>();
+        errorsByType.forEach((type, count) -> errors.put(type.getName(), count.sum()));
+        return new OperationSnapshot(name, ok.sum(), err.sum(), none.sum(), latency.getMean(),
+                latency.getPercentile(0.5), latency.getPercentile(0.99), latency.getMax(),
+                Collections.unmodifiableMap(errors));
+    }
+
+    // ====== Internal Utility ======
+
+    private void recordErrorType(Object error) {
+        err.increment();
+        Class<?> type = error == null ? Void.class : error.getClass();
+        LongAdder count = errorsByType.get(type);
+        if (count == null) count = errorsByType.computeIfAbsent(type, t -> new LongAdder());
+        count.increment();
+    }
+}
@@ -0,0 +1,77 @@
+package com.anugrahatwork.anukit.metrics;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * A point-in-time view of one named operation's outcomes and latencies. Latencies are in nanoseconds.
+ */
+@Getter
+public final class OperationSnapshot {
+
+    /**
+     * The operation or stage name.
+     */
+    private final String name;
+
+    /**
+     * Number of {@code ok} outcomes.
+     */
+    private final long okCount;
+
+    /**
+     * Number of {@code err} outcomes.
+     */
+    private final long errCount;
+
+    /**
+     * Number of {@code none} outcomes.
+     */
+    private final long noneCount;
+
+    /**
+     * Mean latency.
+     */
+    private final double meanNanos;
+
+    /**
+     * Median latency.
+     */
+    private final long p50Nanos;
+
+    /**
+     * 99th percentile latency.
+     */
+    private final long p99Nanos;
+
+    /**
+     * Maximum latency.
+     */
+    private final long maxNanos;
+
+    /**
+     * Error counts keyed by exception class name.
+     */
+    private final Map<String, Long> errorsByType;
+
+    OperationSnapshot(String name, long okCount, long errCount, long noneCount, double meanNanos,
+                      long p50Nanos, long p99Nanos, long maxNanos, Map<String, Long> errorsByType) {
+        this.name = name;
+        this.okCount = okCount;
+        this.errCount = errCount;
+        this.noneCount = noneCount;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.errorsByType = errorsByType;
+    }
+
+    @Override
+    public String toString() {
+        return name + " ok=" + okCount + " err=" + errCount + " none=" + noneCount
+                + " mean=" + (long) meanNanos + "ns p50=" + p50Nanos + "ns p99=" + p99Nanos + "ns max=" + maxNanos + "ns"
+                + (errorsByType.isEmpty() ? "" : " errors=" + errorsByType);
+    }
+}
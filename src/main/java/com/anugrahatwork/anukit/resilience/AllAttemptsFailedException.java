@@ -0,0 +1,33 @@
+package com.anugrahatwork.anukit.resilience;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reported when every attempt of a hedged or raced call failed.
+ * <p>
+ * The first error is the cause; all errors are available, in completion order, through {@link #getErrors()}.
+ */
+public class AllAttemptsFailedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Exception> errors;
+
+    /**
+     * Constructs an exception from the errors of all attempts.
+     *
+     * @param errors the errors, at least one
+     */
+    public AllAttemptsFailedException(List<Exception> errors) {
+        super("all " + errors.size() + " attempts failed", errors.isEmpty() ? null : errors.get(0));
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the errors of all attempts, in completion order.
+     */
+    public List<Exception> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,190 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many {@link AnuKit.CheckedSupplier}s run at the same time.
+ * <p>
+ * A call takes a permit before running and returns it when done. When no permit is free, the call either fails
+ * immediately or waits up to the configured maximum, and then fails with a {@link CallNotPermittedException}
+ * without running the supplier. Permits are counted with a non-fair {@link Semaphore}, so taking and returning
+ * a permit is a single compare-and-set; only callers that have to wait are queued.
+ * <p>
+ * {@link #partition(String)} returns independent bulkheads with the same limits, one per name, so that one
+ * tenant or dependency exhausting its permits does not affect the others.
+ *
+ * <pre>{@code
+ * Bulkhead bulkhead = Bulkhead.of(16).withMaxWait(50, TimeUnit.MILLISECONDS);
+ *
+ * AnuKit.tryWrapAsync(() -> client.fetch(id), bulkhead.partition(tenantId));
+ * }</pre>
+ */
+public final class Bulkhead {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final String name;
+    private final Semaphore permits;
+    private final ConcurrentMap<String, Bulkhead> partitions;
+
+    private Bulkhead(int maxConcurrent, long maxWaitNanos, String name, ConcurrentMap<String, Bulkhead> partitions) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWaitNanos;
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent);
+        this.partitions = partitions;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a bulkhead letting at most {@code maxConcurrent} calls run at once and rejecting further calls immediately.
+     *
+     * @param maxConcurrent maximum number of concurrent calls, at least 1
+     * @return a new bulkhead
+     */
+    public static Bulkhead of(int maxConcurrent) {
+        if (maxConcurrent < 1) throw new IllegalArgumentException("maxConcurrent must be >= 1: " + maxConcurrent);
+        return new Bulkhead(maxConcurrent, 0, null, new ConcurrentHashMap<>());
+    }
+
+    // ====== Configuration ======
+
+    /**
+     * Returns a new bulkhead whose calls wait up to the given time for a permit before being rejected.
+     * The wait happens on the calling thread, also for {@link #callAsync}.
+     *
+     * @param maxWait maximum time to wait, {@code 0} to reject immediately
+     * @param unit    unit of {@code maxWait}
+     * @return a new bulkhead with no calls in flight
+     */
+    public Bulkhead withMaxWait(long maxWait, TimeUnit unit) {
+        if (maxWait < 0) throw new IllegalArgumentException("maxWait must be >= 0: " + maxWait);
+        return new Bulkhead(maxConcurrent, unit.toNanos(maxWait), null, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns the bulkhead of the named partition, creating it on first use. Every partition has its own permits
+     * and the same limits as this bulkhead.
+     *
+     * @param name name of the partition, for example a tenant id
+     * @return the partition's bulkhead
+     */
+    public Bulkhead partition(String name) {
+        return partitions.computeIfAbsent(name, n -> new Bulkhead(maxConcurrent, maxWaitNanos, n, partitions));
+    }
+
+    /**
+     * Returns the partition name, or {@code null} for a bulkhead created by {@link #of(int)}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the maximum number of concurrent calls.
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Returns the number of calls that could start right now.
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    // ====== Execution ======
+
+    /**
+     * Runs the supplier once a permit is available.
+     *
+     * @param supplier function that may throw
+     * @param <T>      type of successful result
+     * @return the supplier's result, or {@code err} with a {@link CallNotPermittedException} if no permit was
+     * available in time, or with {@link InterruptedException} if the thread was interrupted while waiting
+     */
+    public <T> Result<T, Exception> call(AnuKit.CheckedSupplier<T> supplier) {
+        Exception rejected = acquire();
+        if (rejected != null) return Result.err(rejected);
+        try {
+            return AnuKit.tryWrap(supplier);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Runs the supplier on {@code executor} once a permit is available; the permit is held until the supplier
+     * completes. A rejected call completes immediately without submitting anything.
+     *
+     * @param supplier function that may throw
+     * @param executor runs the supplier
+     * @param <T>      type of successful result
+     * @return a future of the supplier's result, or of {@code err} as described for {@link #call}
+     */
+    public <T> CompletableFuture<Result<T, Exception>> callAsync(AnuKit.CheckedSupplier<T> supplier, Executor executor) {
+        Exception rejected = acquire();
+        if (rejected != null) return CompletableFuture.completedFuture(Result.err(rejected));
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return AnuKit.tryWrap(supplier);
+                } finally {
+                    permits.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return CompletableFuture.completedFuture(Result.err(e));
+        }
+    }
+
+    /**
+     * Takes a permit, waiting up to the configured maximum. Every successful call must be followed by exactly one
+     * {@link #release()}. Use {@link #call} unless the work completes later, for example in a callback.
+     * If the thread is interrupted while waiting, its interrupt status is restored and no permit is taken.
+     *
+     * @return {@code true} if a permit was taken
+     */
+    public boolean tryAcquirePermission() {
+        return acquire() == null;
+    }
+
+    /**
+     * Returns a permit taken by {@link #tryAcquirePermission()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    // ====== Internal Utility ======
+
+    /**
+     * Takes a permit, or returns the reason none was taken.
+     */
+    private Exception acquire() {
+        if (permits.tryAcquire()) return null;
+        if (maxWaitNanos > 0) {
+            try {
+                if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return e;
+            }
+        }
+        return new CallNotPermittedException(name == null
+                ? "bulkhead is full (" + maxConcurrent + " concurrent calls)"
+                : "bulkhead '" + name + "' is full (" + maxConcurrent + " concurrent calls)");
+    }
+}
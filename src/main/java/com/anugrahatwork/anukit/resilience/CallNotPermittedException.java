@@ -0,0 +1,21 @@
+package com.anugrahatwork.anukit.resilience;
+
+/**
+ * Reported instead of running a supplier while a {@link CircuitBreaker} is open, or when a {@link Bulkhead}
+ * or {@link RateLimiter} has no capacity left.
+ * <p>
+ * Rejections are expected to be frequent during an outage or overload, so this exception captures no stack trace.
+ */
+public class CallNotPermittedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a stackless exception with the given message.
+     *
+     * @param message the detail message
+     */
+    public CallNotPermittedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,351 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free circuit breaker for {@link AnuKit.CheckedSupplier}s.
+ * <p>
+ * While {@link State#CLOSED closed}, calls run normally and their outcomes are counted in a sliding time window.
+ * Once at least {@code minimumCalls} calls were seen in the window and the failure rate reaches the threshold,
+ * the breaker {@link State#OPEN opens}: calls are rejected immediately with a {@link CallNotPermittedException}
+ * without running the supplier. After the open duration, a limited number of probe calls is let through
+ * ({@link State#HALF_OPEN half-open}); if they all succeed the breaker closes again, and any failure reopens it.
+ * <p>
+ * The closed-state check is a single volatile read, and outcomes are counted on {@link LongAdder}s, so the
+ * breaker adds almost nothing to a hot path under contention. Every outcome reads the clock and is counted in the
+ * bucket of the current time. Window counts are approximate: an outcome recorded while its bucket is being
+ * recycled may be lost.
+ * <p>
+ * A breaker is stateful and meant to be shared by all calls to the same dependency. The {@code withX} methods
+ * return a new, closed breaker with the changed configuration.
+ *
+ * <pre>{@code
+ * CircuitBreaker breaker = CircuitBreaker.failureRate(0.5)
+ *     .withOpenDuration(10, TimeUnit.SECONDS);
+ *
+ * Result<Response, Exception> result = AnuKit.tryWrap(() -> client.fetch(id), breaker);
+ * }</pre>
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The state of a circuit breaker.
+     */
+    public enum State {
+        /** Calls run and are counted. */
+        CLOSED,
+        /** Calls are rejected without running. */
+        OPEN,
+        /** A limited number of probe calls run to decide whether to close again. */
+        HALF_OPEN
+    }
+
+    private static final int BUCKETS = 10;
+    private static final AnuKit.SafePredicate<Exception> ANY = e -> true;
+
+    private final double failureRateThreshold;
+    private final long windowNanos;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int probes;
+    private final AnuKit.SafePredicate<Exception> recordIf;
+
+    private final long bucketNanos;
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger probePermits = new AtomicInteger();
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+    private volatile long openedAt;
+
+    private CircuitBreaker(double failureRateThreshold, long windowNanos, int minimumCalls, long openNanos, int probes,
+                           AnuKit.SafePredicate<Exception> recordIf) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowNanos = windowNanos;
+        this.minimumCalls = minimumCalls;
+        this.openNanos = openNanos;
+        this.probes = probes;
+        this.recordIf = recordIf;
+        this.bucketNanos = Math.max(1, windowNanos / BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new Bucket();
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a breaker opening when at least {@code failureRateThreshold} of the calls in the last 10 s failed,
+     * once at least 20 calls were seen. It stays open for 30 s and then lets one probe call through.
+     *
+     * @param failureRateThreshold failure rate in {@code (0, 1]}
+     * @return a new, closed breaker
+     */
+    public static CircuitBreaker failureRate(double failureRateThreshold) {
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+        }
+        return new CircuitBreaker(failureRateThreshold, TimeUnit.SECONDS.toNanos(10), 20, TimeUnit.SECONDS.toNanos(30), 1, ANY);
+    }
+
+    // ====== Configuration ======
+
+    /**
+     * Returns a new breaker measuring the failure rate over the given sliding window.
+     *
+     * @param window length of the window
+     * @param unit   unit of {@code window}
+     * @return a new, closed breaker
+     */
+    public CircuitBreaker withWindow(long window, TimeUnit unit) {
+        if (window <= 0) throw new IllegalArgumentException("window must be > 0: " + window);
+        return new CircuitBreaker(failureRateThreshold, unit.toNanos(window), minimumCalls, openNanos, probes, recordIf);
+    }
+
+    /**
+     * Returns a new breaker that does not open before {@code minimumCalls} calls were seen in the window.
+     *
+     * @param minimumCalls minimum number of calls, at least 1
+     * @return a new, closed breaker
+     */
+    public CircuitBreaker withMinimumCalls(int minimumCalls) {
+        if (minimumCalls < 1) throw new IllegalArgumentException("minimumCalls must be >= 1: " + minimumCalls);
+        return new CircuitBreaker(failureRateThreshold, windowNanos, minimumCalls, openNanos, probes, recordIf);
+    }
+
+    /**
+     * Returns a new breaker staying open for the given duration before letting probe calls through.
+     *
+     * @param duration how long to reject calls
+     * @param unit     unit of {@code duration}
+     * @return a new, closed breaker
+     */
+    public CircuitBreaker withOpenDuration(long duration, TimeUnit unit) {
+        if (duration < 0) throw new IllegalArgumentException("duration must be >= 0: " + duration);
+        return new CircuitBreaker(failureRateThreshold, windowNanos, minimumCalls, unit.toNanos(duration), probes, recordIf);
+    }
+
+    /**
+     * Returns a new breaker letting {@code probes} calls through when half-open; all of them must succeed to close.
+     *
+     * @param probes number of probe calls, at least 1
+     * @return a new, closed breaker
+     */
+    public CircuitBreaker withProbes(int probes) {
+        if (probes < 1) throw new IllegalArgumentException("probes must be >= 1: " + probes);
+        return new CircuitBreaker(failureRateThreshold, windowNanos, minimumCalls, openNanos, probes, recordIf);
+    }
+
+    /**
+     * Returns a new breaker that only counts exceptions matching the predicate as failures; other exceptions
+     * (for example validation errors) count as successes. A predicate that throws counts the exception as a failure.
+     *
+     * @param predicate decides whether an exception indicates an unhealthy dependency
+     * @return a new, closed breaker
+     */
+    public CircuitBreaker recordIf(AnuKit.SafePredicate<Exception> predicate) {
+        return new CircuitBreaker(failureRateThreshold, windowNanos, minimumCalls, openNanos, probes, predicate);
+    }
+
+    /**
+     * Returns the current state. An open breaker whose open duration elapsed reports {@link State#OPEN}
+     * until the next call moves it to half-open.
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Returns the failure rate over the current window, or {@code 0} if no calls were seen.
+     */
+    public double getFailureRate() {
+        long[] counts = windowCounts(System.nanoTime());
+        long total = counts[0] + counts[1];
+        return total == 0 ? 0 : (double) counts[1] / total;
+    }
+
+    // ====== Execution ======
+
+    /**
+     * Runs the supplier if the breaker permits it and records its outcome.
+     *
+     * @param supplier function that may throw
+     * @param <T>      type of successful result
+     * @return the supplier's result, or {@code err} with a {@link CallNotPermittedException} if rejected
+     */
+    public <T> Result<T, Exception> call(AnuKit.CheckedSupplier<T> supplier) {
+        if (!tryAcquirePermission()) return Result.err(rejection());
+        return run(supplier);
+    }
+
+    /**
+     * Runs the supplier on {@code executor} if the breaker permits it. A rejected call completes immediately
+     * without submitting anything, so an outage does not queue work on the executor.
+     *
+     * @param supplier function that may throw
+     * @param executor runs the supplier
+     * @param <T>      type of successful result
+     * @return a future of the supplier's result, or of {@code err} with a {@link CallNotPermittedException}
+     */
+    public <T> CompletableFuture<Result<T, Exception>> callAsync(AnuKit.CheckedSupplier<T> supplier, Executor executor) {
+        if (!tryAcquirePermission()) return CompletableFuture.completedFuture(Result.err(rejection()));
+        try {
+            return CompletableFuture.supplyAsync(() -> run(supplier), executor);
+        } catch (RejectedExecutionException e) {
+            onError(e);
+            return CompletableFuture.completedFuture(Result.err(e));
+        }
+    }
+
+    /**
+     * Asks whether a call may run now. Every permitted call must be followed by exactly one
+     * {@link #onSuccess()} or {@link #onError(Exception)}. Use {@link #call} unless the outcome is only
+     * known later, for example from a callback.
+     *
+     * @return {@code true} if the call may run
+     */
+    public boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) return true;
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) return false;
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                probeSuccesses.set(0);
+                probePermits.set(probes - 1);
+                return true;
+            }
+        }
+        for (int permits = probePermits.get(); permits > 0; permits = probePermits.get()) {
+            if (probePermits.compareAndSet(permits, permits - 1)) return true;
+        }
+        return state.get() == State.CLOSED;
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public void onSuccess() {
+        if (state.get() == State.HALF_OPEN) {
+            if (probeSuccesses.incrementAndGet() >= probes && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                for (Bucket bucket : buckets) bucket.clear();
+            }
+            return;
+        }
+        bucket(System.nanoTime()).successes.increment();
+    }
+
+    /**
+     * Records a failed call. Exceptions not matching {@link #recordIf} count as successes.
+     *
+     * @param error the exception thrown by the call
+     */
+    public void onError(Exception error) {
+        if (!isFailure(error)) {
+            onSuccess();
+            return;
+        }
+        long now = System.nanoTime();
+        State observed = state.get();
+        if (observed == State.HALF_OPEN) {
+            open(State.HALF_OPEN, now);
+            return;
+        }
+        bucket(now).failures.increment();
+        if (observed != State.CLOSED) return;
+        long[] counts = windowCounts(now);
+        long total = counts[0] + counts[1];
+        if (total >= minimumCalls && counts[1] >= failureRateThreshold * total) {
+            open(State.CLOSED, now);
+        }
+    }
+
+    // ====== Internal Utility ======
+
+    /**
+     * Runs a permitted call and records its outcome.
+     */
+    private <T> Result<T, Exception> run(AnuKit.CheckedSupplier<T> supplier) {
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            onError(e);
+            return Result.err(e);
+        } catch (Throwable fatal) {
+            // an unrecorded outcome would leave a half-open breaker waiting for its probe forever
+            onError(new ExecutionException(fatal));
+            throw fatal;
+        }
+        onSuccess();
+        return Result.ok(value);
+    }
+
+    private boolean isFailure(Exception error) {
+        try {
+            return recordIf.test(error);
+        } catch (Exception predicateFailure) {
+            return true;
+        }
+    }
+
+    private void open(State from, long now) {
+        openedAt = now;
+        if (state.compareAndSet(from, State.OPEN)) probePermits.set(0);
+    }
+
+    private CallNotPermittedException rejection() {
+        return new CallNotPermittedException("circuit breaker is " + state.get());
+    }
+
+    /**
+     * Returns the bucket for the given time, recycling it first if it still holds counts from an older period.
+     */
+    private Bucket bucket(long now) {
+        long epoch = Math.floorDiv(now, bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) BUCKETS)];
+        long seen = bucket.epoch.get();
+        if (seen < epoch && bucket.epoch.compareAndSet(seen, epoch)) {
+            bucket.successes.reset();
+            bucket.failures.reset();
+        }
+        return bucket;
+    }
+
+    /**
+     * Sums successes and failures over the buckets still inside the window.
+     */
+    private long[] windowCounts(long now) {
+        long epoch = Math.floorDiv(now, bucketNanos);
+        long oldest = epoch - Math.max(1, windowNanos / bucketNanos) + 1;
+        long successes = 0;
+        long failures = 0;
+        for (Bucket bucket : buckets) {
+            long seen = bucket.epoch.get();
+            if (seen >= oldest && seen <= epoch) {
+                successes += bucket.successes.sum();
+                failures += bucket.failures.sum();
+            }
+        }
+        return new long[]{successes, failures};
+    }
+
+    private static final class Bucket {
+        final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+
+        void clear() {
+            epoch.set(Long.MIN_VALUE);
+            successes.reset();
+            failures.reset();
+        }
+    }
+}
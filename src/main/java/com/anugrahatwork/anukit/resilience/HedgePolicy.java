@@ -0,0 +1,277 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hedged execution for latency-critical {@link AnuKit.CheckedSupplier}s.
+ * <p>
+ * The first attempt starts immediately; if it has not completed after the hedge delay, a duplicate attempt
+ * is started, and so on up to {@code maxAttempts}. The first {@code ok} result wins and the other attempts
+ * are cancelled (interrupting them if running). A failed attempt starts the next one right away instead of
+ * waiting for the delay. Errors are only reported if every attempt fails, as an
+ * {@link AllAttemptsFailedException} holding all of them.
+ * <p>
+ * The hedge delay is either fixed, or learned as a percentile of recent successful latencies.
+ * A policy is thread-safe and meant to be shared by all calls to the same backend.
+ *
+ * <pre>{@code
+ * HedgePolicy hedge = HedgePolicy.percentile(0.95, 20, TimeUnit.MILLISECONDS);
+ * hedge.callAsync(() -> replica.read(key), scheduler, ioPool);
+ * }</pre>
+ */
+public final class HedgePolicy {
+
+    private static final int WINDOW = 1024;
+    private static final int RECOMPUTE_EVERY = 64;
+
+    private final int maxAttempts;
+    private final double percentile;
+    private final LatencyWindow latencies;
+    private volatile long delayNanos;
+
+    private HedgePolicy(int maxAttempts, long delayNanos, double percentile, LatencyWindow latencies) {
+        this.maxAttempts = maxAttempts;
+        this.delayNanos = delayNanos;
+        this.percentile = percentile;
+        this.latencies = latencies;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a policy hedging once after a fixed delay.
+     *
+     * @param delay time to wait before starting the duplicate attempt
+     * @param unit  unit of {@code delay}
+     * @return a new policy making at most two attempts
+     */
+    public static HedgePolicy fixedDelay(long delay, TimeUnit unit) {
+        if (delay < 0) throw new IllegalArgumentException("delay must be >= 0: " + delay);
+        return new HedgePolicy(2, unit.toNanos(delay), 0, null);
+    }
+
+    /**
+     * Creates a policy hedging once after the given percentile of recently observed successful latencies,
+     * starting from {@code initialDelay} until enough latencies were recorded.
+     *
+     * @param percentile   percentile in {@code (0, 1)}, for example {@code 0.95}
+     * @param initialDelay delay used before the first estimate is available
+     * @param unit         unit of {@code initialDelay}
+     * @return a new policy making at most two attempts
+     */
+    public static HedgePolicy percentile(double percentile, long initialDelay, TimeUnit unit) {
+        if (!(percentile > 0 && percentile < 1)) throw new IllegalArgumentException("percentile must be in (0, 1): " + percentile);
+        if (initialDelay < 0) throw new IllegalArgumentException("initialDelay must be >= 0: " + initialDelay);
+        return new HedgePolicy(2, unit.toNanos(initialDelay), percentile, new LatencyWindow());
+    }
+
+    /**
+     * Returns a copy making at most {@code maxAttempts} attempts, started one hedge delay apart.
+     * The learned latency window, if any, is shared with this policy.
+     *
+     * @param maxAttempts total number of attempts, at least 1
+     * @return a new policy
+     */
+    public HedgePolicy withMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be >= 1: " + maxAttempts);
+        return new HedgePolicy(maxAttempts, delayNanos, percentile, latencies);
+    }
+
+    /**
+     * Returns the delay currently used before starting a hedge, in the given unit.
+     *
+     * @param unit the unit to convert to
+     * @return the current hedge delay
+     */
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ====== Execution ======
+
+    /**
+     * Runs the supplier with hedging. Attempts run on the {@linkplain AnuKit#getDefaultExecutor() default executor}.
+     *
+     * @param supplier  function that may throw; must be safe to run more than once
+     * @param scheduler times the hedge delays
+     * @param <T>       type of successful result
+     * @return a future of the first successful result, or of the aggregated error
+     */
+    public <T> CompletableFuture<Result<T, Exception>> callAsync(AnuKit.CheckedSupplier<T> supplier,
+                                                                 ScheduledExecutorService scheduler) {
+        return callAsync(supplier, scheduler, AnuKit.getDefaultExecutor());
+    }
+
+    /**
+     * Runs the supplier with hedging, executing the attempts on {@code executor}.
+     *
+     * @param supplier  function that may throw; must be safe to run more than once
+     * @param scheduler times the hedge delays
+     * @param executor  runs the attempts
+     * @param <T>       type of successful result
+     * @return a future of the first successful result, or of the aggregated error
+     */
+    public <T> CompletableFuture<Result<T, Exception>> callAsync(AnuKit.CheckedSupplier<T> supplier,
+                                                                 ScheduledExecutorService scheduler,
+                                                                 Executor executor) {
+        AnuKit.CheckedSupplier<?>[] attempts = new AnuKit.CheckedSupplier<?>[maxAttempts];
+        Arrays.fill(attempts, supplier);
+        @SuppressWarnings("unchecked")
+        Race<T> race = new Race<>((AnuKit.CheckedSupplier<T>[]) attempts, executor, this);
+        race.launch();
+        long delay = delayNanos;
+        for (int i = 1; i < maxAttempts; i++) {
+            ScheduledFuture<?> hedge = scheduler.schedule(race::launch, delay * i, TimeUnit.NANOSECONDS);
+            race.future.whenComplete((result, failure) -> hedge.cancel(false));
+        }
+        return race.future;
+    }
+
+    /**
+     * Runs all alternative suppliers at once and completes with the first {@code ok} result, cancelling
+     * the others. Errors are only reported if every alternative fails.
+     *
+     * @param alternatives suppliers producing an equivalent value
+     * @param executor     runs the alternatives
+     * @param <T>          type of successful result
+     * @return a future of the first successful result, or of the aggregated error
+     */
+    public static <T> CompletableFuture<Result<T, Exception>> race(List<? extends AnuKit.CheckedSupplier<T>> alternatives,
+                                                                   Executor executor) {
+        if (alternatives.isEmpty()) throw new IllegalArgumentException("at least one alternative is required");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        AnuKit.CheckedSupplier<T>[] attempts = alternatives.toArray(new AnuKit.CheckedSupplier[0]);
+        Race<T> race = new Race<>(attempts, executor, null);
+        for (int i = 0; i < attempts.length; i++) {
+            race.launch();
+        }
+        return race.future;
+    }
+
+    // ====== Internal Utility ======
+
+    private void recordLatency(long nanos) {
+        if (latencies == null) return;
+        if (latencies.record(nanos) % RECOMPUTE_EVERY == 0) {
+            delayNanos = latencies.percentile(percentile);
+        }
+    }
+
+    /**
+     * Fixed-size ring of recent latencies; written without locks, read by an occasional snapshot.
+     */
+    private static final class LatencyWindow {
+        private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+        private final AtomicLong count = new AtomicLong();
+
+        long record(long nanos) {
+            long n = count.incrementAndGet();
+            samples.set((int) ((n - 1) & (WINDOW - 1)), nanos);
+            return n;
+        }
+
+        long percentile(double p) {
+            int size = (int) Math.min(count.get(), WINDOW);
+            long[] snapshot = new long[size];
+            for (int i = 0; i < size; i++) snapshot[i] = samples.get(i);
+            Arrays.sort(snapshot);
+            return snapshot[Math.min(size - 1, (int) (p * size))];
+        }
+    }
+
+    /**
+     * One hedged or raced call: launches attempts, completes with the first success or with all errors.
+     */
+    private static final class Race<T> {
+        private final CompletableFuture<Result<T, Exception>> future = new CompletableFuture<>();
+        private final AnuKit.CheckedSupplier<T>[] attempts;
+        private final Executor executor;
+        private final HedgePolicy policy;
+        private final AtomicInteger launched = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<Exception> errors = Collections.synchronizedList(new ArrayList<>());
+        private final List<FutureTask<?>> running = Collections.synchronizedList(new ArrayList<>());
+
+        Race(AnuKit.CheckedSupplier<T>[] attempts, Executor executor, HedgePolicy policy) {
+            this.attempts = attempts;
+            this.executor = executor;
+            this.policy = policy;
+            future.whenComplete((result, failure) -> cancelRunning());
+        }
+
+        /**
+         * Starts the next attempt, unless the race is decided or every attempt was already started.
+         */
+        void launch() {
+            int index;
+            do {
+                index = launched.get();
+                if (index >= attempts.length || future.isDone()) return;
+            } while (!launched.compareAndSet(index, index + 1));
+
+            AnuKit.CheckedSupplier<T> supplier = attempts[index];
+            FutureTask<Void> task = new FutureTask<>(() -> attempt(supplier), null);
+            running.add(task);
+            try {
+                executor.execute(task);
+            } catch (RuntimeException rejected) {
+                onFailure(rejected);
+            }
+            if (future.isDone()) task.cancel(true);
+        }
+
+        private void attempt(AnuKit.CheckedSupplier<T> supplier) {
+            long start = System.nanoTime();
+            T value;
+            try {
+                value = supplier.get();
+            } catch (Exception e) {
+                onFailure(e);
+                return;
+            } catch (Throwable fatal) {
+                // the FutureTask would swallow an Error, leaving the race without an outcome
+                onFailure(new ExecutionException(fatal));
+                return;
+            }
+            if (future.complete(Result.ok(value)) && policy != null) {
+                policy.recordLatency(System.nanoTime() - start);
+            }
+        }
+
+        private void onFailure(Exception e) {
+            if (future.isDone()) return;
+            errors.add(e);
+            if (failed.incrementAndGet() == attempts.length) {
+                List<Exception> all;
+                synchronized (errors) {
+                    all = new ArrayList<>(errors);
+                }
+                future.complete(Result.err(new AllAttemptsFailedException(all)));
+            } else {
+                launch();
+            }
+        }
+
+        private void cancelRunning() {
+            synchronized (running) {
+                for (FutureTask<?> task : running) task.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A lock-free token-bucket rate limiter for {@link AnuKit.CheckedSupplier}s.
+ * <p>
+ * Permits are issued at a steady rate, and up to {@code burst} unused permits are saved for later.
+ * When no permit is available, a call either fails immediately or waits until its permit is due, if that is
+ * within the configured maximum wait, and otherwise fails with a {@link CallNotPermittedException} without
+ * running the supplier.
+ * <p>
+ * The bucket is kept as a single timestamp, the time at which it will be full again, and a permit is reserved
+ * with one compare-and-set on it, so no thread ever blocks another. A waiting call has already reserved its permit
+ * and just sleeps until it is due.
+ * <p>
+ * {@link #partition(String)} returns independent limiters with the same rate, one per name.
+ *
+ * <pre>{@code
+ * RateLimiter limiter = RateLimiter.perSecond(100).withMaxWait(20, TimeUnit.MILLISECONDS);
+ *
+ * AnuKit.tryWrap(() -> client.fetch(id), limiter.partition(tenantId));
+ * }</pre>
+ */
+public final class RateLimiter {
+
+    private final long intervalNanos;
+    private final int burst;
+    private final long maxWaitNanos;
+    private final String name;
+    private final ConcurrentMap<String, RateLimiter> partitions;
+
+    /**
+     * When the bucket will be full again; at or before now if it is full. Each permit taken moves it one interval later.
+     */
+    private final AtomicLong nextFree;
+
+    private RateLimiter(long intervalNanos, int burst, long maxWaitNanos, String name,
+                        ConcurrentMap<String, RateLimiter> partitions) {
+        this.intervalNanos = intervalNanos;
+        this.burst = burst;
+        this.maxWaitNanos = maxWaitNanos;
+        this.name = name;
+        this.partitions = partitions;
+        this.nextFree = new AtomicLong(System.nanoTime());
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a limiter issuing {@code permitsPerSecond} permits per second and saving up to one second's worth.
+     * Calls over the limit are rejected immediately.
+     *
+     * @param permitsPerSecond the rate, greater than 0
+     * @return a new limiter with a full bucket
+     */
+    public static RateLimiter perSecond(double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) throw new IllegalArgumentException("permitsPerSecond must be > 0: " + permitsPerSecond);
+        long interval = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        return new RateLimiter(interval, (int) Math.max(1, Math.min(Integer.MAX_VALUE, permitsPerSecond)), 0, null,
+                new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Creates a limiter issuing {@code permits} permits per {@code period} and saving up to {@code permits}.
+     * Calls over the limit are rejected immediately.
+     *
+     * @param permits number of permits per period, at least 1
+     * @param period  length of the period
+     * @param unit    unit of {@code period}
+     * @return a new limiter with a full bucket
+     */
+    public static RateLimiter of(int permits, long period, TimeUnit unit) {
+        if (permits < 1) throw new IllegalArgumentException("permits must be >= 1: " + permits);
+        if (period <= 0) throw new IllegalArgumentException("period must be > 0: " + period);
+        return new RateLimiter(Math.max(1, unit.toNanos(period) / permits), permits, 0, null, new ConcurrentHashMap<>());
+    }
+
+    // ====== Configuration ======
+
+    /**
+     * Returns a new limiter with the same rate saving up to {@code burst} unused permits.
+     *
+     * @param burst bucket size, at least 1
+     * @return a new limiter with a full bucket
+     */
+    public RateLimiter withBurst(int burst) {
+        if (burst < 1) throw new IllegalArgumentException("burst must be >= 1: " + burst);
+        return new RateLimiter(intervalNanos, burst, maxWaitNanos, null, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns a new limiter whose calls wait up to the given time for a permit before being rejected.
+     * The wait happens on the calling thread, also for {@link #callAsync}.
+     *
+     * @param maxWait maximum time to wait, {@code 0} to reject immediately
+     * @param unit    unit of {@code maxWait}
+     * @return a new limiter with a full bucket
+     */
+    public RateLimiter withMaxWait(long maxWait, TimeUnit unit) {
+        if (maxWait < 0) throw new IllegalArgumentException("maxWait must be >= 0: " + maxWait);
+        return new RateLimiter(intervalNanos, burst, unit.toNanos(maxWait), null, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Returns the limiter of the named partition, creating it with a full bucket on first use.
+     * Every partition has its own bucket and the same configuration as this limiter.
+     *
+     * @param name name of the partition, for example a tenant id
+     * @return the partition's limiter
+     */
+    public RateLimiter partition(String name) {
+        return partitions.computeIfAbsent(name, n -> new RateLimiter(intervalNanos, burst, maxWaitNanos, n, partitions));
+    }
+
+    /**
+     * Returns the partition name, or {@code null} for a limiter not obtained through {@link #partition(String)}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of permits that could be taken right now without waiting.
+     */
+    public int getAvailablePermits() {
+        long saved = Math.floorDiv(System.nanoTime() - nextFree.get(), intervalNanos) + burst;
+        return (int) Math.max(0, Math.min(burst, saved));
+    }
+
+    // ====== Execution ======
+
+    /**
+     * Runs the supplier once a permit is available.
+     *
+     * @param supplier function that may throw
+     * @param <T>      type of successful result
+     * @return the supplier's result, or {@code err} with a {@link CallNotPermittedException} if no permit is due
+     * within the maximum wait, or with {@link InterruptedException} if the thread was interrupted while waiting
+     */
+    public <T> Result<T, Exception> call(AnuKit.CheckedSupplier<T> supplier) {
+        Exception rejected = acquire();
+        if (rejected != null) return Result.err(rejected);
+        return AnuKit.tryWrap(supplier);
+    }
+
+    /**
+     * Runs the supplier on {@code executor} once a permit is available. A rejected call completes immediately
+     * without submitting anything.
+     *
+     * @param supplier function that may throw
+     * @param executor runs the supplier
+     * @param <T>      type of successful result
+     * @return a future of the supplier's result, or of {@code err} as described for {@link #call}
+     */
+    public <T> CompletableFuture<Result<T, Exception>> callAsync(AnuKit.CheckedSupplier<T> supplier, Executor executor) {
+        Exception rejected = acquire();
+        if (rejected != null) return CompletableFuture.completedFuture(Result.err(rejected));
+        return AnuKit.tryWrapAsync(supplier, executor);
+    }
+
+    /**
+     * Takes a permit, waiting for it up to the configured maximum. If the thread is interrupted while waiting,
+     * its interrupt status is restored and the permit is still consumed.
+     *
+     * @return {@code true} if a permit was taken
+     */
+    public boolean tryAcquirePermission() {
+        return acquire() == null;
+    }
+
+    // ====== Internal Utility ======
+
+    /**
+     * Takes a permit, or returns the reason none was taken.
+     */
+    private Exception acquire() {
+        long now = System.nanoTime();
+        long wait = reserve(now);
+        if (wait < 0) {
+            return new CallNotPermittedException(name == null
+                    ? "rate limit exceeded"
+                    : "rate limit of '" + name + "' exceeded");
+        }
+        long deadline = now + wait;
+        for (long remaining = wait; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return new InterruptedException("interrupted while waiting for a permit");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reserves the next permit if it is due within the maximum wait.
+     *
+     * @return how long to wait for the reserved permit, or {@code -1} if none was reserved
+     */
+    private long reserve(long now) {
+        long tolerance = burst * intervalNanos;
+        while (true) {
+            long free = nextFree.get();
+            long next = (free - now > 0 ? free : now) + intervalNanos;
+            long wait = next - tolerance - now;
+            if (wait > maxWaitNanos) return -1;
+            if (nextFree.compareAndSet(free, next)) return Math.max(0, wait);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable retry policy for {@link AnuKit.CheckedSupplier}s: maximum attempts, exponential backoff
+ * with jitter, and a predicate deciding which exceptions are worth retrying.
+ * <p>
+ * The blocking form {@link #call} sleeps on the calling thread between attempts. The non-blocking form
+ * {@link #callAsync} schedules each retry on a {@link ScheduledExecutorService}, so no thread is held
+ * while waiting for the next attempt.
+ *
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.maxAttempts(5)
+ *     .withBackoff(50, 2_000, TimeUnit.MILLISECONDS)
+ *     .retryOn(IOException.class);
+ *
+ * Result<Response, Exception> result = policy.call(() -> client.fetch(id));
+ * }</pre>
+ */
+public final class RetryPolicy {
+
+    private static final AnuKit.SafePredicate<Exception> ANY = e -> true;
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final AnuKit.SafePredicate<Exception> retryIf;
+
+    private RetryPolicy(int maxAttempts, long initialDelayNanos, long maxDelayNanos, double multiplier,
+                        double jitter, AnuKit.SafePredicate<Exception> retryIf) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryIf = retryIf;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a policy making at most {@code maxAttempts} attempts in total, retrying every exception,
+     * with a 100 ms initial delay doubling up to 10 s and 50% jitter.
+     *
+     * @param maxAttempts total number of attempts, at least 1
+     * @return a new policy
+     */
+    public static RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) throw new IllegalArgumentException("maxAttempts must be >= 1: " + maxAttempts);
+        return new RetryPolicy(maxAttempts, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(10),
+                2.0, 0.5, ANY);
+    }
+
+    // ====== Configuration ======
+
+    /**
+     * Returns a copy with the given exponential backoff bounds.
+     *
+     * @param initialDelay delay before the second attempt
+     * @param maxDelay     upper bound for any delay
+     * @param unit         unit of both delays
+     * @return a new policy
+     */
+    public RetryPolicy withBackoff(long initialDelay, long maxDelay, TimeUnit unit) {
+        if (initialDelay < 0 || maxDelay < initialDelay) {
+            throw new IllegalArgumentException("expected 0 <= initialDelay <= maxDelay");
+        }
+        return new RetryPolicy(maxAttempts, unit.toNanos(initialDelay), unit.toNanos(maxDelay), multiplier, jitter, retryIf);
+    }
+
+    /**
+     * Returns a copy growing the delay by {@code multiplier} after every failed attempt.
+     *
+     * @param multiplier growth factor, at least 1
+     * @return a new policy
+     */
+    public RetryPolicy withMultiplier(double multiplier) {
+        if (!(multiplier >= 1.0)) throw new IllegalArgumentException("multiplier must be >= 1: " + multiplier);
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryIf);
+    }
+
+    /**
+     * Returns a copy randomizing each delay down by up to {@code jitter} of its value;
+     * {@code 0} disables jitter and {@code 1} is "full jitter".
+     *
+     * @param jitter fraction in {@code [0, 1]}
+     * @return a new policy
+     */
+    public RetryPolicy withJitter(double jitter) {
+        if (!(jitter >= 0.0 && jitter <= 1.0)) throw new IllegalArgumentException("jitter must be in [0, 1]: " + jitter);
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, retryIf);
+    }
+
+    /**
+     * Returns a copy that only retries exceptions matching the predicate.
+     * A predicate that throws is treated as "do not retry".
+     *
+     * @param predicate decides whether an exception is retryable
+     * @return a new policy
+     */
+    public RetryPolicy retryIf(AnuKit.SafePredicate<Exception> predicate) {
+        return new RetryPolicy(maxAttempts, initialDelayNanos, maxDelayNanos, multiplier, jitter, predicate);
+    }
+
+    /**
+     * Returns a copy that only retries exceptions of the given types (or their subtypes).
+     *
+     * @param types retryable exception types
+     * @return a new policy
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Exception>... types) {
+        // copied element by element so the varargs array itself never escapes
+        Class<?>[] retryable = new Class<?>[types.length];
+        for (int i = 0; i < types.length; i++) retryable[i] = types[i];
+        return retryIf(e -> {
+            for (Class<?> type : retryable) {
+                if (type.isInstance(e)) return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Returns the total number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    // ====== Execution ======
+
+    /**
+     * Runs the supplier until it succeeds, fails with a non-retryable exception, or runs out of attempts,
+     * sleeping on the calling thread between attempts.
+     *
+     * @param supplier function that may throw
+     * @param <T>      type of successful result
+     * @return {@code ok} with the first successful value, or {@code err} with the last exception
+     */
+    public <T> Result<T, Exception> call(AnuKit.CheckedSupplier<T> supplier) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Result.ok(supplier.get());
+            } catch (Exception e) {
+                if (!shouldRetry(e, attempt)) return Result.err(e);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos(attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return Result.err(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the supplier with retries without blocking: every attempt runs on {@code scheduler},
+     * and retries are scheduled after the backoff delay instead of sleeping.
+     *
+     * @param supplier  function that may throw
+     * @param scheduler schedules and runs the attempts
+     * @param <T>       type of successful result
+     * @return a future of the final result; cancelling it stops further attempts
+     */
+    public <T> CompletableFuture<Result<T, Exception>> callAsync(AnuKit.CheckedSupplier<T> supplier,
+                                                                 ScheduledExecutorService scheduler) {
+        return callAsync(supplier, scheduler, scheduler);
+    }
+
+    /**
+     * Runs the supplier with retries without blocking: every attempt runs on {@code executor},
+     * and {@code scheduler} only times the delays between attempts.
+     *
+     * @param supplier  function that may throw
+     * @param scheduler times the delays between attempts
+     * @param executor  runs the attempts
+     * @param <T>       type of successful result
+     * @return a future of the final result; cancelling it stops further attempts
+     */
+    public <T> CompletableFuture<Result<T, Exception>> callAsync(AnuKit.CheckedSupplier<T> supplier,
+                                                                 ScheduledExecutorService scheduler,
+                                                                 Executor executor) {
+        CompletableFuture<Result<T, Exception>> future = new CompletableFuture<>();
+        new AsyncAttempt<>(supplier, scheduler, executor, future).submit(0);
+        return future;
+    }
+
+    // ====== Internal Utility ======
+
+    private boolean shouldRetry(Exception e, int attempt) {
+        if (attempt >= maxAttempts) return false;
+        try {
+            return retryIf.test(e);
+        } catch (Exception predicateFailure) {
+            return false;
+        }
+    }
+
+    /**
+     * Delay after the given failed attempt (1-based): exponential, capped, then jittered downwards.
+     */
+    long delayNanos(int attempt) {
+        double delay = initialDelayNanos * Math.pow(multiplier, attempt - 1);
+        long capped = delay >= maxDelayNanos ? maxDelayNanos : (long) delay;
+        if (jitter == 0.0 || capped == 0) return capped;
+        return capped - (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * One asynchronous retry loop; each attempt either completes the future or schedules the next attempt.
+     */
+    private final class AsyncAttempt<T> implements Runnable {
+        private final AnuKit.CheckedSupplier<T> supplier;
+        private final ScheduledExecutorService scheduler;
+        private final Executor executor;
+        private final CompletableFuture<Result<T, Exception>> future;
+        private int attempt;
+
+        AsyncAttempt(AnuKit.CheckedSupplier<T> supplier, ScheduledExecutorService scheduler, Executor executor,
+                     CompletableFuture<Result<T, Exception>> future) {
+            this.supplier = supplier;
+            this.scheduler = scheduler;
+            this.executor = executor;
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) return;
+            attempt++;
+            try {
+                future.complete(Result.ok(supplier.get()));
+            } catch (Exception e) {
+                if (shouldRetry(e, attempt)) {
+                    submit(delayNanos(attempt));
+                } else {
+                    future.complete(Result.err(e));
+                }
+            } catch (Throwable fatal) {
+                // an Error is not retried and would otherwise only reach the executor, leaving callers waiting
+                future.completeExceptionally(fatal);
+                throw fatal;
+            }
+        }
+
+        void submit(long delayNanos) {
+            if (delayNanos <= 0) {
+                dispatch();
+                return;
+            }
+            try {
+                if (executor == scheduler) {
+                    scheduler.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    scheduler.schedule(this::dispatch, delayNanos, TimeUnit.NANOSECONDS);
+                }
+            } catch (RuntimeException rejected) {
+                future.complete(Result.err(rejected));
+            }
+        }
+
+        private void dispatch() {
+            try {
+                executor.execute(this);
+            } catch (RuntimeException rejected) {
+                future.complete(Result.err(rejected));
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.anugrahatwork.anukit.result;
+
+import com.anugrahatwork.anukit.AnuKit;
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * An {@code double}-specialized counterpart of {@link Result} that holds its value without boxing.
+ * <p>
+ * Instances are immutable. {@link #none()} returns a cached instance.
+ *
+ * @param <E> the type of the error value
+ */
+public final class DoubleResult<E> {
+
+    private static final DoubleResult<?> NONE = new DoubleResult<>(0d, null, Result.State.NONE);
+
+    private final double value;
+    private final E error;
+
+    /**
+     * The current state of the {@code DoubleResult}.
+     */
+    @Getter
+    private final Result.State state;
+
+    private DoubleResult(double value, E error, Result.State state) {
+        this.value = value;
+        this.error = error;
+        this.state = state;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a success result.
+     *
+     * @param value the successful result
+     * @return a {@code DoubleResult} representing success
+     */
+    public static <E> DoubleResult<E> ok(double value) {
+        return new DoubleResult<>(value, null, Result.State.OK);
+    }
+
+    /**
+     * Creates a failure result with an error.
+     *
+     * @param error the error object
+     * @return a {@code DoubleResult} representing error
+     */
+    public static <E> DoubleResult<E> err(E error) {
+        return new DoubleResult<>(0d, error, Result.State.ERR);
+    }
+
+    /**
+     * Returns the shared uninitialized {@code DoubleResult}.
+     *
+     * @return a {@code DoubleResult} in the {@code NONE} state
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> DoubleResult<E> none() {
+        return (DoubleResult<E>) NONE;
+    }
+
+    // ====== State Checks ======
+
+    /**
+     * Returns {@code true} if this result is a success.
+     */
+    public boolean isOk() {
+        return state == Result.State.OK;
+    }
+
+    /**
+     * Returns {@code true} if this result is a failure.
+     */
+    public boolean isErr() {
+        return state == Result.State.ERR;
+    }
+
+    /**
+     * Returns {@code true} if this result is uninitialized.
+     */
+    public boolean isNone() {
+        return state == Result.State.NONE;
+    }
+
+    // ====== Accessors ======
+
+    /**
+     * Returns the success value as an {@link OptionalDouble}, or {@link OptionalDouble#empty()} if not successful.
+     */
+    public OptionalDouble Ok() {
+        return isOk() ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    /**
+     * Returns the error value as an {@link Optional}, or {@link Optional#empty()} if not an error.
+     */
+    public Optional<E> Err() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Unwraps the value if present; throws a {@link RuntimeException} if in error or none state.
+     *
+     * @return the successful value
+     * @throws RuntimeException if result is error or none
+     */
+    public double unwrapOrThrow() {
+        if (isOk()) return value;
+        if (isNone()) throw new IllegalStateException("result is uninitialized (NONE)");
+        throw Result.wrapToException(error, null);
+    }
+
+    /**
+     * Unwraps the value with a custom message if an error is thrown.
+     *
+     * @param customMessage the message to use if exception is thrown
+     * @return the successful value
+     * @throws RuntimeException if result is error or none
+     */
+    public double unwrapOrThrow(String customMessage) {
+        if (isOk()) return value;
+        if (isNone()) throw new IllegalStateException("result is uninitialized: " + customMessage);
+        throw Result.wrapToException(error, customMessage);
+    }
+
+    /**
+     * Returns the value if successful, otherwise the given fallback.
+     *
+     * @param fallback value to use on error or none
+     * @return the successful value or the fallback
+     */
+    public double unwrapOr(double fallback) {
+        return isOk() ? value : fallback;
+    }
+
+    /**
+     * Executes a side effect handler if the result is an error.
+     *
+     * @param handler the error consumer
+     * @return the same result instance for fluent chaining
+     */
+    public DoubleResult<E> onError(AnuKit.Callback<E> handler) {
+        if (isErr()) {
+            handler.call(error);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the error value, or throws if result is uninitialized.
+     *
+     * @return the error object
+     * @throws IllegalStateException if result is none
+     */
+    public E getError() {
+        if (isNone()) throw new IllegalStateException("result is uninitialized");
+        return error;
+    }
+
+    /**
+     * Returns a human-readable message from the error.
+     * Supports {@link Throwable}, {@link String}, or custom types.
+     */
+    public String getErrorMessage() {
+        if (isNone()) return "result is uninitialized";
+        if (error instanceof Throwable) return ((Throwable) error).getMessage();
+        return error != null ? error.toString() : null;
+    }
+
+    /**
+     * Converts this result into a boxed {@link Result}.
+     *
+     * @return an equivalent {@code Result<Double, E>}
+     */
+    public Result<Double, E> toResult() {
+        if (isOk()) return Result.ok(value);
+        if (isErr()) return Result.err(error);
+        return Result.none();
+    }
+}
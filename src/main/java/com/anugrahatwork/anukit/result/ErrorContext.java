@@ -0,0 +1,164 @@
+package com.anugrahatwork.anukit.result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One frame of structured context attached to an error {@link Result}, linked to the frames added before it.
+ * <p>
+ * A frame holds an operation name or a message template with {@code {}} placeholders and its arguments,
+ * and optionally the index of the pipeline stage that failed. Nothing is formatted when a frame is created:
+ * the chain is rendered into a message, outermost frame first and separated by {@code ": "}, only when
+ * {@link #toString()} is called, for example by {@link Result#getMessage()} or when an error is thrown.
+ * <p>
+ * Frames are immutable; arguments should be immutable too, since they are formatted later.
+ */
+public final class ErrorContext {
+
+    /**
+     * Stage index of frames that do not describe a pipeline stage.
+     */
+    public static final int NO_STAGE = -1;
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final String operation;
+    private final Object[] args;
+    private final int stage;
+    private final ErrorContext inner;
+
+    /**
+     * The rendered chain, computed on first use. Racing threads compute the same immutable string.
+     */
+    private String rendered;
+
+    ErrorContext(String operation, Object[] args, int stage, ErrorContext inner) {
+        this.operation = operation;
+        this.args = args;
+        this.stage = stage;
+        this.inner = inner;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a single frame naming an operation.
+     *
+     * @param operation the operation name or message
+     * @return a new frame
+     */
+    public static ErrorContext of(String operation) {
+        return new ErrorContext(operation, NO_ARGS, NO_STAGE, null);
+    }
+
+    /**
+     * Creates a single frame from a message template, formatted only when rendered.
+     *
+     * @param format the message, with {@code {}} marking where each argument goes
+     * @param args   the arguments
+     * @return a new frame
+     */
+    public static ErrorContext of(String format, Object... args) {
+        return new ErrorContext(format, args, NO_STAGE, null);
+    }
+
+    /**
+     * Creates a single frame identifying a failed pipeline stage.
+     *
+     * @param index zero-based index of the stage
+     * @param name  name of the stage, or {@code null}
+     * @return a new frame
+     */
+    public static ErrorContext stage(int index, String name) {
+        return new ErrorContext(name, NO_ARGS, index, null);
+    }
+
+    // ====== Accessors ======
+
+    /**
+     * Returns the operation name or message template of this frame, or {@code null} for an unnamed stage.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the unformatted arguments of this frame.
+     */
+    public List<Object> getArguments() {
+        return Collections.unmodifiableList(Arrays.asList(args));
+    }
+
+    /**
+     * Returns the zero-based stage index of this frame, or {@link #NO_STAGE}.
+     */
+    public int getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the frame that was attached before this one, or {@code null} if this is the innermost frame.
+     */
+    public ErrorContext getInner() {
+        return inner;
+    }
+
+    /**
+     * Returns all frames of the chain, outermost first.
+     */
+    public List<ErrorContext> frames() {
+        List<ErrorContext> frames = new ArrayList<>();
+        for (ErrorContext frame = this; frame != null; frame = frame.inner) frames.add(frame);
+        return frames;
+    }
+
+    /**
+     * Returns this frame alone rendered as text, formatting its arguments.
+     */
+    public String describe() {
+        StringBuilder out = new StringBuilder();
+        appendFrame(out);
+        return out.toString();
+    }
+
+    /**
+     * Renders the whole chain, outermost frame first, separated by {@code ": "}.
+     */
+    @Override
+    public String toString() {
+        String text = rendered;
+        if (text == null) {
+            StringBuilder out = new StringBuilder();
+            for (ErrorContext frame = this; frame != null; frame = frame.inner) {
+                if (frame != this) out.append(": ");
+                frame.appendFrame(out);
+            }
+            rendered = text = out.toString();
+        }
+        return text;
+    }
+
+    // ====== Internal Utility ======
+
+    private void appendFrame(StringBuilder out) {
+        if (stage != NO_STAGE) {
+            out.append("stage ").append(stage);
+            if (operation != null) out.append(" (").append(operation).append(')');
+            return;
+        }
+        if (operation == null) {
+            out.append("null");
+            return;
+        }
+        int from = 0;
+        for (Object arg : args) {
+            int at = operation.indexOf("{}", from);
+            if (at < 0) break;
+            out.append(operation, from, at).append(arg);
+            from = at + 2;
+        }
+        out.append(operation, from, operation.length());
+    }
+}
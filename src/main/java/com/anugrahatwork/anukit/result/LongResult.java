@@ -0,0 +1,198 @@
+package com.anugrahatwork.anukit.result;
+
+import com.anugrahatwork.anukit.AnuKit;
+import lombok.Getter;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * An {@code long}-specialized counterpart of {@link Result} that holds its value without boxing.
+ * <p>
+ * Instances are immutable. {@link #none()} and {@code ok(v)} for {@code v} in {@code [-128, 127]}
+ * return cached instances.
+ *
+ * @param <E> the type of the error value
+ */
+public final class LongResult<E> {
+
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+
+    private static final LongResult<?> NONE = new LongResult<>(0L, null, Result.State.NONE);
+    private static final LongResult<?>[] CACHE = new LongResult<?>[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new LongResult<>(i + CACHE_LOW, null, Result.State.OK);
+        }
+    }
+
+    private final long value;
+    private final E error;
+
+    /**
+     * The current state of the {@code LongResult}.
+     */
+    @Getter
+    private final Result.State state;
+
+    private LongResult(long value, E error, Result.State state) {
+        this.value = value;
+        this.error = error;
+        this.state = state;
+    }
+
+    // ====== Static Constructors ======
+
+    /**
+     * Creates a success result.
+     *
+     * @param value the successful result
+     * @return a {@code LongResult} representing success
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> LongResult<E> ok(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) return (LongResult<E>) CACHE[(int) (value - CACHE_LOW)];
+        return new LongResult<>(value, null, Result.State.OK);
+    }
+
+    /**
+     * Creates a failure result with an error.
+     *
+     * @param error the error object
+     * @return a {@code LongResult} representing error
+     */
+    public static <E> LongResult<E> err(E error) {
+        return new LongResult<>(0L, error, Result.State.ERR);
+    }
+
+    /**
+     * Returns the shared uninitialized {@code LongResult}.
+     *
+     * @return a {@code LongResult} in the {@code NONE} state
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> LongResult<E> none() {
+        return (LongResult<E>) NONE;
+    }
+
+    // ====== State Checks ======
+
+    /**
+     * Returns {@code true} if this result is a success.
+     */
+    public boolean isOk() {
+        return state == Result.State.OK;
+    }
+
+    /**
+     * Returns {@code true} if this result is a failure.
+     */
+    public boolean isErr() {
+        return state == Result.State.ERR;
+    }
+
+    /**
+     * Returns {@code true} if this result is uninitialized.
+     */
+    public boolean isNone() {
+        return state == Result.State.NONE;
+    }
+
+    // ====== Accessors ======
+
+    /**
+     * Returns the success value as an {@link OptionalLong}, or {@link OptionalLong#empty()} if not successful.
+     */
+    public OptionalLong Ok() {
+        return isOk() ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns the error value as an {@link Optional}, or {@link Optional#empty()} if not an error.
+     */
+    public Optional<E> Err() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Unwraps the value if present; throws a {@link RuntimeException} if in error or none state.
+     *
+     * @return the successful value
+     * @throws RuntimeException if result is error or none
+     */
+    public long unwrapOrThrow() {
+        if (isOk()) return value;
+        if (isNone()) throw new IllegalStateException("result is uninitialized (NONE)");
+        throw Result.wrapToException(error, null);
+    }
+
+    /**
+     * Unwraps the value with a custom message if an error is thrown.
+     *
+     * @param customMessage the message to use if exception is thrown
+     * @return the successful value
+     * @throws RuntimeException if result is error or none
+     */
+    public long unwrapOrThrow(String customMessage) {
+        if (isOk()) return value;
+        if (isNone()) throw new IllegalStateException("result is uninitialized: " + customMessage);
+        throw Result.wrapToException(error, customMessage);
+    }
+
+    /**
+     * Returns the value if successful, otherwise the given fallback.
+     *
+     * @param fallback value to use on error or none
+     * @return the successful value or the fallback
+     */
+    public long unwrapOr(long fallback) {
+        return isOk() ? value : fallback;
+    }
+
+    /**
+     * Executes a side effect handler if the result is an error.
+     *
+     * @param handler the error consumer
+     * @return the same result instance for fluent chaining
+     */
+    public LongResult<E> onError(AnuKit.Callback<E> handler) {
+        if (isErr()) {
+            handler.call(error);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the error value, or throws if result is uninitialized.
+     *
+     * @return the error object
+     * @throws IllegalStateException if result is none
+     */
+    public E getError() {
+        if (isNone()) throw new IllegalStateException("result is uninitialized");
+        return error;
+    }
+
+    /**
+     * Returns a human-readable message from the error.
+     * Supports {@link Throwable}, {@link String}, or custom types.
+     */
+    public String getErrorMessage() {
+        if (isNone()) return "result is uninitialized";
+        if (error instanceof Throwable) return ((Throwable) error).getMessage();
+        return error != null ? error.toString() : null;
+    }
+
+    /**
+     * Converts this result into a boxed {@link Result}.
+     *
+     * @return an equivalent {@code Result<Long, E>}
+     */
+    public Result<Long, E> toResult() {
+        if (isOk()) return Result.ok(value);
+        if (isErr()) return Result.err(error);
+        return Result.none();
+    }
+}
@@ -0,0 +1,73 @@
+package com.anugrahatwork.anukit.result;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The successes and errors of a group of {@link Result}s, split in a single pass.
+ * <p>
+ * {@code none} results are counted as neither. When the split stopped early because an error
+ * limit was reached, {@code isTruncated()} is {@code true}.
+ *
+ * @param <T> the type of the success values
+ * @param <E> the type of the errors
+ */
+@Getter
+public final class Partition<T, E> {
+
+    /**
+     * Success values, in encounter order.
+     */
+    private final List<T> oks;
+
+    /**
+     * Errors, in encounter order.
+     */
+    private final List<E> errors;
+
+    /**
+     * Whether consumption stopped because an error limit was reached.
+     */
+    private boolean truncated;
+
+    Partition(int expectedOks, int expectedErrors) {
+        this.oks = new ArrayList<>(expectedOks);
+        this.errors = new ArrayList<>(expectedErrors);
+    }
+
+    /**
+     * Returns {@code true} if at least one error was collected.
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    void add(Result<? extends T, ? extends E> result) {
+        if (result.isOk()) {
+            oks.add(result.unwrapOrThrow());
+        } else if (result.isErr()) {
+            errors.add(result.getError());
+        }
+    }
+
+    void addOk(T value) {
+        oks.add(value);
+    }
+
+    void addError(E error) {
+        errors.add(error);
+    }
+
+    void truncate() {
+        truncated = true;
+    }
+
+    Partition<T, E> merge(Partition<T, E> other) {
+        oks.addAll(other.oks);
+        errors.addAll(other.errors);
+        truncated |= other.truncated;
+        return this;
+    }
+}
@@ -1,5 +1,6 @@
 package com.anugrahatwork.anukit.result;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -7,6 +8,8 @@ import lombok.Getter;
  * <p>
  * This exception can wrap any error object (not just {@link Throwable}),
  * making it useful for propagating messages, codes, or rich error types.
+ * <p>
+ * Whether the stack trace is captured follows {@link StackTraceMode#getDefault()} unless a mode is passed explicitly.
  */
 @Getter
 public class PropagateErrorException extends RuntimeException {
@@ -16,14 +19,23 @@ public class PropagateErrorException extends RuntimeException {
      */
     private final Object error;
 
+    /**
+     * Whether the exception was constructed without a cause, so {@link #initCause} may still set one.
+     * The stack-trace-aware superclass constructor always fixes the cause, so a late cause is kept here.
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean causeUnset;
+
+    @Getter(AccessLevel.NONE)
+    private Throwable lateCause;
+
     /**
      * Constructs an exception from an error object.
      *
      * @param error the error object (message, exception, etc.)
      */
     public PropagateErrorException(Object error) {
-        super(error instanceof Throwable ? ((Throwable) error).getMessage() : error != null ? error.toString() : "Unknown error"  );
-        this.error = error;
+        this(error instanceof Throwable ? ((Throwable) error).getMessage() : null, error, StackTraceMode.getDefault());
     }
 
     /**
@@ -33,8 +45,15 @@ public class PropagateErrorException extends RuntimeException {
      * @param error   the raw error object
      */
     public PropagateErrorException(String message, Object error) {
-        super(message != null ? message : error != null ? error.toString() : "Unknown error");
-        this.error = error;
+        this(message, error, StackTraceMode.getDefault());
+    }
+
+    /**
+     * Constructs an exception without a cause, using the given stack trace mode.
+     */
+    PropagateErrorException(String message, Object error, StackTraceMode mode) {
+        this(message, null, error, mode);
+        this.causeUnset = true;
     }
 
     /**
@@ -45,7 +64,33 @@ public class PropagateErrorException extends RuntimeException {
      * @param error   the raw error object
      */
     public PropagateErrorException(String message, Throwable cause, Object error) {
-        super(message != null ? message : error != null ? error.toString() : "Unknown error", cause);
+        this(message, cause, error, StackTraceMode.getDefault());
+    }
+
+    /**
+     * Constructs an exception with message, cause, and error object, using the given stack trace mode.
+     *
+     * @param message human-readable message
+     * @param cause   underlying cause (optional)
+     * @param error   the raw error object
+     * @param mode    decides whether the stack trace is captured
+     */
+    public PropagateErrorException(String message, Throwable cause, Object error, StackTraceMode mode) {
+        super(message != null ? message : error != null ? error.toString() : "Unknown error", cause, true, mode.capture());
         this.error = error;
     }
-}
\ No newline at end of file
+
+    @Override
+    public synchronized Throwable getCause() {
+        return lateCause != null ? lateCause : super.getCause();
+    }
+
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        if (!causeUnset) return super.initCause(cause);
+        if (cause == this) throw new IllegalArgumentException("Self-causation not permitted", this);
+        causeUnset = false;
+        lateCause = cause;
+        return this;
+    }
+}
@@ -11,11 +11,24 @@ import java.util.Optional;
  * <p>
  * This class is inspired by Rust’s {@code Result<T, E>} and is designed for
  * safer and expressive error handling in Java without using exceptions for control flow.
+ * <p>
+ * Instances are immutable and therefore safe to share between threads. {@link #none()},
+ * {@code ok(null)} and {@code ok(Boolean.TRUE / Boolean.FALSE)} return cached instances.
+ * <p>
+ * An error result can carry a chain of {@link ErrorContext} frames added by each layer it passes through
+ * ({@link #withContext(String)}, {@link #withStage(int, String)}). Adding context to an {@code ok} or
+ * {@code none} result returns it unchanged, and the chain is only formatted when the message is read or thrown.
  *
  * @param <T> the type of the success value
  * @param <E> the type of the error value (usually {@link Exception} or {@link String})
  */
-public class Result<T, E> {
+public final class Result<T, E> {
+
+    private static final Result<?, ?> NONE = new Result<>(null, null, State.NONE);
+    private static final Result<?, ?> OK_NULL = new Result<>(null, null, State.OK);
+    private static final Result<?, ?> OK_TRUE = new Result<>(Boolean.TRUE, null, State.OK);
+    private static final Result<?, ?> OK_FALSE = new Result<>(Boolean.FALSE, null, State.OK);
+    private static final Object[] NO_ARGS = new Object[0];
 
     private final T value;
     private final E error;
@@ -27,10 +40,9 @@ public class Result<T, E> {
     private final State state;
 
     /**
-     * Optional custom message (useful for debugging or context).
+     * Context attached on the error path, outermost frame first; {@code null} if none.
      */
-    @Getter
-    private String message;
+    private final ErrorContext context;
 
     /**
      * Enum representing the state of the {@code Result}.
@@ -55,16 +67,14 @@ public class Result<T, E> {
     // ====== Constructors ======
 
     private Result(T value, E error, State state) {
-        this.value = value;
-        this.error = error;
-        this.state = state;
+        this(value, error, state, null);
     }
 
-    private Result(T value, E error, State state, String message) {
+    private Result(T value, E error, State state, ErrorContext context) {
         this.value = value;
         this.error = error;
         this.state = state;
-        this.message = message;
+        this.context = context;
     }
 
     // ====== Static Constructors ======
@@ -75,7 +85,11 @@ public class Result<T, E> {
      * @param value the successful result
      * @return a {@code Result} representing success
      */
+    @SuppressWarnings("unchecked")
     public static <T, E> Result<T, E> ok(T value) {
+        if (value == null) return (Result<T, E>) OK_NULL;
+        if (value == Boolean.TRUE) return (Result<T, E>) OK_TRUE;
+        if (value == Boolean.FALSE) return (Result<T, E>) OK_FALSE;
         return new Result<>(value, null, State.OK);
     }
 
@@ -97,16 +111,28 @@ public class Result<T, E> {
      * @return a {@code Result} representing error
      */
     public static <T, E> Result<T, E> err(E error, String message) {
-        return new Result<>(null, error, State.ERR, message);
+        return new Result<>(null, error, State.ERR, message != null ? ErrorContext.of(message) : null);
+    }
+
+    /**
+     * Creates a failure result carrying an existing context chain.
+     *
+     * @param error   the error object
+     * @param context the context, or {@code null}
+     * @return a {@code Result} representing error
+     */
+    public static <T, E> Result<T, E> err(E error, ErrorContext context) {
+        return new Result<>(null, error, State.ERR, context);
     }
 
     /**
      * Creates an uninitialized {@code Result}.
      *
-     * @return a {@code Result} in the {@code NONE} state
+     * @return the shared {@code Result} in the {@code NONE} state
      */
+    @SuppressWarnings("unchecked")
     public static <T, E> Result<T, E> none() {
-        return new Result<>(null, null, State.NONE);
+        return (Result<T, E>) NONE;
     }
 
     // ====== State Checks ======
@@ -169,11 +195,22 @@ public class Result<T, E> {
      */
     public T unwrapOrThrow(String customMessage) {
         if (isOk()) return value;
+        if (isNone()) throw new IllegalStateException("result is uninitialized: " + customMessage);
+        throw wrapToException(error, messageWith(customMessage));
+    }
 
-        this.message = customMessage;
-
+    /**
+     * Unwraps the value, deciding with the given mode whether the thrown exception captures a stack trace.
+     *
+     * @param customMessage the message to use if exception is thrown (may be {@code null})
+     * @param mode          stack trace mode for the thrown exception
+     * @return the successful value
+     * @throws RuntimeException if result is error or none
+     */
+    public T unwrapOrThrow(String customMessage, StackTraceMode mode) {
+        if (isOk()) return value;
         if (isNone()) throw new IllegalStateException("result is uninitialized: " + customMessage);
-        throw wrapToException(error, customMessage);
+        throw wrapToException(error, messageWith(customMessage), mode);
     }
 
     /**
@@ -211,26 +248,116 @@ public class Result<T, E> {
     }
 
     /**
-     * Attaches a contextual message to the result (useful for tracing).
+     * Returns the attached context rendered as a message, outermost frame first, or {@code null} if there is none.
+     */
+    public String getMessage() {
+        return context != null ? context.toString() : null;
+    }
+
+    /**
+     * Returns the attached context chain, or {@code null} if there is none.
+     */
+    public ErrorContext getContext() {
+        return context;
+    }
+
+    // ====== Error Context ======
+
+    /**
+     * Attaches a contextual message to the result (useful for tracing); same as {@link #withContext(String)}.
+     * <p>
+     * The current instance is left untouched; a copy carrying the message on top of any earlier context is returned.
      *
      * @param message the message to attach
-     * @return the current {@code Result} instance
+     * @return an error {@code Result} with the added context, or this result if it is not an error
      */
     public Result<T, E> intercept(String message) {
-        this.message = message;
-        return this;
+        return withContext(message);
+    }
+
+    /**
+     * Adds a context frame naming the operation that failed.
+     *
+     * @param operation the operation name or message
+     * @return an error {@code Result} with the added context, or this result if it is not an error
+     */
+    public Result<T, E> withContext(String operation) {
+        return isErr() ? push(operation, NO_ARGS, ErrorContext.NO_STAGE) : this;
+    }
+
+    /**
+     * Adds a context frame from a message template; {@code arg} is only formatted if the message is rendered.
+     *
+     * @param format the message, with {@code {}} marking where the argument goes
+     * @param arg    the argument
+     * @return an error {@code Result} with the added context, or this result if it is not an error
+     */
+    public Result<T, E> withContext(String format, Object arg) {
+        return isErr() ? push(format, new Object[]{arg}, ErrorContext.NO_STAGE) : this;
+    }
+
+    /**
+     * Adds a context frame from a message template; the arguments are only formatted if the message is rendered.
+     *
+     * @param format the message, with {@code {}} marking where each argument goes
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     * @return an error {@code Result} with the added context, or this result if it is not an error
+     */
+    public Result<T, E> withContext(String format, Object arg1, Object arg2) {
+        return isErr() ? push(format, new Object[]{arg1, arg2}, ErrorContext.NO_STAGE) : this;
+    }
+
+    /**
+     * Adds a context frame from a message template; the arguments are only formatted if the message is rendered.
+     *
+     * @param format the message, with {@code {}} marking where each argument goes
+     * @param args   the arguments; a {@code null} array, as passed by {@code withContext(format, null)},
+     *               counts as a single {@code null} argument
+     * @return an error {@code Result} with the added context, or this result if it is not an error
+     */
+    public Result<T, E> withContext(String format, Object... args) {
+        if (!isErr()) return this;
+        return push(format, args != null ? args.clone() : new Object[]{null}, ErrorContext.NO_STAGE);
+    }
+
+    /**
+     * Adds a context frame identifying the pipeline stage that failed.
+     *
+     * @param index zero-based index of the stage
+     * @param name  name of the stage, or {@code null}
+     * @return an error {@code Result} with the added context, or this result if it is not an error
+     */
+    public Result<T, E> withStage(int index, String name) {
+        return isErr() ? push(name, NO_ARGS, index) : this;
     }
 
     // ====== Internal Utility ======
 
+    private Result<T, E> push(String operation, Object[] args, int stage) {
+        return new Result<>(value, error, state, new ErrorContext(operation, args, stage, context));
+    }
+
+    private String messageWith(String customMessage) {
+        if (context == null) return customMessage;
+        return customMessage != null ? customMessage + ": " + context : context.toString();
+    }
+
     private RuntimeException wrapToException(E err) {
-        return wrapToException(err, this.message);
+        return wrapToException(err, getMessage());
+    }
+
+    /**
+     * Builds the exception thrown when unwrapping an error; shared with the primitive result types.
+     */
+    static RuntimeException wrapToException(Object err, String msg) {
+        return wrapToException(err, msg, StackTraceMode.getDefault());
     }
 
-    private RuntimeException wrapToException(E err, String msg) {
+    static RuntimeException wrapToException(Object err, String msg, StackTraceMode mode) {
         if (err instanceof Throwable) {
-            return new RuntimeException(msg != null ? msg : "Error occurred", (Throwable) err);
+            return new PropagateErrorException(msg != null ? msg : "Error occurred", (Throwable) err, err, mode);
         }
-        return new RuntimeException((msg != null ? msg + ": " : "") + err);
+        return new PropagateErrorException((msg != null ? msg + ": " : "") + err, err, mode);
     }
 }
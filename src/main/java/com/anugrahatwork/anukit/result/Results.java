@@ -0,0 +1,382 @@
+package com.anugrahatwork.anukit.result;
+
+import com.anugrahatwork.anukit.AnuKit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Static helpers for working with groups of {@link Result}s.
+ * <p>
+ * The combinators over collections write into an array sized from the collection up front and return a
+ * fixed-size list view of it, so combining N results allocates one array and one list, with no stream pipeline.
+ * The fail-fast variants stop at the first {@code err} or {@code none}; the {@code Accumulating} variants
+ * visit everything and report all errors.
+ */
+public final class Results {
+
+    /**
+     * Combines two values.
+     */
+    @FunctionalInterface
+    public interface Combiner2<A, B, R> {
+        R combine(A a, B b);
+    }
+
+    /**
+     * Combines three values.
+     */
+    @FunctionalInterface
+    public interface Combiner3<A, B, C, R> {
+        R combine(A a, B b, C c);
+    }
+
+    /**
+     * Combines four values.
+     */
+    @FunctionalInterface
+    public interface Combiner4<A, B, C, D, R> {
+        R combine(A a, B b, C c, D d);
+    }
+
+    private Results() {
+    }
+
+    // ====== Collectors ======
+
+    /**
+     * Returns a collector splitting results into successes and errors in a single pass.
+     *
+     * @param <T> the type of the success values
+     * @param <E> the type of the errors
+     * @return a collector producing a {@link Partition}
+     */
+    public static <T, E> Collector<Result<T, E>, ?, Partition<T, E>> partitioning() {
+        return partitioning(16);
+    }
+
+    /**
+     * Returns a collector splitting results into successes and errors in a single pass,
+     * pre-sizing the success list for {@code expectedSize} elements.
+     *
+     * @param expectedSize expected number of results
+     * @param <T>          the type of the success values
+     * @param <E>          the type of the errors
+     * @return a collector producing a {@link Partition}
+     */
+    public static <T, E> Collector<Result<T, E>, ?, Partition<T, E>> partitioning(int expectedSize) {
+        return Collector.of(
+                () -> new Partition<T, E>(expectedSize, 0),
+                Partition::add,
+                Partition::merge);
+    }
+
+    // ====== Traversal ======
+
+    /**
+     * Applies the transformer to each element until the first error, without reading further from the source.
+     *
+     * @param source      the elements to transform; read lazily
+     * @param transformer the transformation to apply
+     * @param <T>         the element type
+     * @param <R>         the transformed type
+     * @return {@code ok} with all transformed values in order, or the first {@code err} with the element index as context
+     */
+    public static <T, R> Result<List<R>, Exception> traverse(Iterator<? extends T> source,
+                                                             AnuKit.SafeTransformer<? super T, ? extends R> transformer) {
+        List<R> values = new ArrayList<>();
+        while (source.hasNext()) {
+            try {
+                values.add(transformer.apply(source.next()));
+            } catch (Exception e) {
+                return Result.<List<R>, Exception>err(e).withContext("element {}", values.size());
+            }
+        }
+        return Result.ok(values);
+    }
+
+    /**
+     * Applies the transformer to each element, collecting successes and errors, and stops reading
+     * from the source once {@code maxErrors} errors were collected.
+     *
+     * @param source      the elements to transform; read lazily
+     * @param transformer the transformation to apply
+     * @param maxErrors   number of errors after which to stop, at least 1
+     * @param <T>         the element type
+     * @param <R>         the transformed type
+     * @return the successes and at most {@code maxErrors} errors, truncated if the error limit was reached
+     */
+    public static <T, R> Partition<R, Exception> traverseUntilErrors(Iterator<? extends T> source,
+                                                                     AnuKit.SafeTransformer<? super T, ? extends R> transformer,
+                                                                     int maxErrors) {
+        if (maxErrors < 1) throw new IllegalArgumentException("maxErrors must be >= 1: " + maxErrors);
+        Partition<R, Exception> partition = new Partition<>(16, Math.min(maxErrors, 16));
+        while (source.hasNext()) {
+            try {
+                partition.addOk(transformer.apply(source.next()));
+            } catch (Exception e) {
+                partition.addError(e);
+                if (partition.getErrors().size() >= maxErrors) {
+                    partition.truncate();
+                    break;
+                }
+            }
+        }
+        return partition;
+    }
+
+    /**
+     * Applies the transformer to each element of a collection until the first error,
+     * writing the outputs into an array sized for the collection.
+     *
+     * @param source      the elements to transform
+     * @param transformer the transformation to apply
+     * @param <T>         the element type
+     * @param <R>         the transformed type
+     * @return {@code ok} with all transformed values in order, or the first {@code err} with the element index as context
+     */
+    public static <T, R> Result<List<R>, Exception> traverse(Collection<? extends T> source,
+                                                             AnuKit.SafeTransformer<? super T, ? extends R> transformer) {
+        Object[] values = new Object[source.size()];
+        int i = 0;
+        for (T element : source) {
+            try {
+                values[i] = transformer.apply(element);
+            } catch (Exception e) {
+                return Result.<List<R>, Exception>err(e).withContext("element {}", i);
+            }
+            i++;
+        }
+        return Result.ok(listOf(values, i));
+    }
+
+    /**
+     * Applies the transformer to every element of a collection and collects either all outputs or all errors.
+     *
+     * @param source      the elements to transform
+     * @param transformer the transformation to apply
+     * @param <T>         the element type
+     * @param <R>         the transformed type
+     * @return {@code ok} with all transformed values in order, or {@code err} with every exception in order
+     */
+    public static <T, R> Result<List<R>, List<Exception>> traverseAccumulating(Collection<? extends T> source,
+                                                                               AnuKit.SafeTransformer<? super T, ? extends R> transformer) {
+        Object[] values = new Object[source.size()];
+        List<Exception> errors = null;
+        int i = 0;
+        for (T element : source) {
+            try {
+                values[i++] = transformer.apply(element);
+            } catch (Exception e) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(e);
+            }
+        }
+        return errors != null ? Result.err(errors) : Result.ok(listOf(values, i));
+    }
+
+    // ====== Sequencing ======
+
+    /**
+     * Turns a collection of results into a result of a list, stopping at the first {@code err} or {@code none}.
+     *
+     * @param results the results to combine
+     * @param <T>     the type of the success values
+     * @param <E>     the type of the errors
+     * @return {@code ok} with all values in order, the first {@code err} with the element index as context,
+     * or {@code none} if a {@code none} came first
+     */
+    public static <T, E> Result<List<T>, E> sequence(Collection<? extends Result<? extends T, ? extends E>> results) {
+        Object[] values = new Object[results.size()];
+        int i = 0;
+        for (Result<? extends T, ? extends E> result : results) {
+            if (!result.isOk()) {
+                if (result.isNone()) return Result.none();
+                return Result.<List<T>, E>err(result.getError(), result.getContext()).withContext("element {}", i);
+            }
+            values[i++] = result.unwrapOrThrow();
+        }
+        return Result.ok(listOf(values, i));
+    }
+
+    /**
+     * Turns a collection of results into a result of a list, collecting every error.
+     * {@code none} results are skipped, so the value list then holds fewer elements than the input.
+     *
+     * @param results the results to combine
+     * @param <T>     the type of the success values
+     * @param <E>     the type of the errors
+     * @return {@code ok} with all values in order, or {@code err} with every error in order
+     */
+    public static <T, E> Result<List<T>, List<E>> sequenceAccumulating(Collection<? extends Result<? extends T, ? extends E>> results) {
+        Object[] values = new Object[results.size()];
+        List<E> errors = null;
+        int i = 0;
+        for (Result<? extends T, ? extends E> result : results) {
+            if (result.isOk()) {
+                values[i++] = result.unwrapOrThrow();
+            } else if (result.isErr()) {
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(result.getError());
+            }
+        }
+        return errors != null ? Result.err(errors) : Result.ok(listOf(values, i));
+    }
+
+    // ====== Zipping ======
+
+    /**
+     * Combines two results if both are {@code ok}; otherwise returns the first non-{@code ok} one.
+     *
+     * @param a        the first result
+     * @param b        the second result
+     * @param combiner combines the two values
+     * @return {@code ok} with the combined value, or the first {@code err}/{@code none}
+     */
+    public static <A, B, R, E> Result<R, E> zip(Result<? extends A, ? extends E> a, Result<? extends B, ? extends E> b,
+                                                Combiner2<? super A, ? super B, ? extends R> combiner) {
+        if (!a.isOk()) return failure(a);
+        if (!b.isOk()) return failure(b);
+        return Result.ok(combiner.combine(a.unwrapOrThrow(), b.unwrapOrThrow()));
+    }
+
+    /**
+     * Combines three results if all are {@code ok}; otherwise returns the first non-{@code ok} one.
+     *
+     * @param a        the first result
+     * @param b        the second result
+     * @param c        the third result
+     * @param combiner combines the three values
+     * @return {@code ok} with the combined value, or the first {@code err}/{@code none}
+     */
+    public static <A, B, C, R, E> Result<R, E> zip(Result<? extends A, ? extends E> a, Result<? extends B, ? extends E> b,
+                                                   Result<? extends C, ? extends E> c,
+                                                   Combiner3<? super A, ? super B, ? super C, ? extends R> combiner) {
+        if (!a.isOk()) return failure(a);
+        if (!b.isOk()) return failure(b);
+        if (!c.isOk()) return failure(c);
+        return Result.ok(combiner.combine(a.unwrapOrThrow(), b.unwrapOrThrow(), c.unwrapOrThrow()));
+    }
+
+    /**
+     * Combines four results if all are {@code ok}; otherwise returns the first non-{@code ok} one.
+     *
+     * @param a        the first result
+     * @param b        the second result
+     * @param c        the third result
+     * @param d        the fourth result
+     * @param combiner combines the four values
+     * @return {@code ok} with the combined value, or the first {@code err}/{@code none}
+     */
+    public static <A, B, C, D, R, E> Result<R, E> zip(Result<? extends A, ? extends E> a, Result<? extends B, ? extends E> b,
+                                                      Result<? extends C, ? extends E> c, Result<? extends D, ? extends E> d,
+                                                      Combiner4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner) {
+        if (!a.isOk()) return failure(a);
+        if (!b.isOk()) return failure(b);
+        if (!c.isOk()) return failure(c);
+        if (!d.isOk()) return failure(d);
+        return Result.ok(combiner.combine(a.unwrapOrThrow(), b.unwrapOrThrow(), c.unwrapOrThrow(), d.unwrapOrThrow()));
+    }
+
+    /**
+     * Combines any number of results of the same type into a list; same as {@link #sequence(Collection)}.
+     *
+     * @param results the results to combine
+     * @param <T>     the type of the success values
+     * @param <E>     the type of the errors
+     * @return {@code ok} with all values in order, or the first {@code err}/{@code none}
+     */
+    @SafeVarargs
+    public static <T, E> Result<List<T>, E> zipAll(Result<? extends T, ? extends E>... results) {
+        // copied element by element so the varargs array itself never escapes
+        List<Result<? extends T, ? extends E>> list = new ArrayList<>(results.length);
+        for (Result<? extends T, ? extends E> result : results) list.add(result);
+        return sequence(list);
+    }
+
+    /**
+     * Combines two results if both are {@code ok}; otherwise collects the errors of both.
+     *
+     * @param a        the first result
+     * @param b        the second result
+     * @param combiner combines the two values
+     * @return {@code ok} with the combined value, {@code err} with all errors, or {@code none} if a {@code none}
+     * was present and there were no errors
+     */
+    public static <A, B, R, E> Result<R, List<E>> zipAccumulating(Result<? extends A, ? extends E> a,
+                                                                  Result<? extends B, ? extends E> b,
+                                                                  Combiner2<? super A, ? super B, ? extends R> combiner) {
+        if (a.isOk() && b.isOk()) return Result.ok(combiner.combine(a.unwrapOrThrow(), b.unwrapOrThrow()));
+        return accumulated(a, b);
+    }
+
+    /**
+     * Combines three results if all are {@code ok}; otherwise collects the errors of all of them.
+     *
+     * @param a        the first result
+     * @param b        the second result
+     * @param c        the third result
+     * @param combiner combines the three values
+     * @return {@code ok} with the combined value, {@code err} with all errors, or {@code none} if a {@code none}
+     * was present and there were no errors
+     */
+    public static <A, B, C, R, E> Result<R, List<E>> zipAccumulating(Result<? extends A, ? extends E> a,
+                                                                     Result<? extends B, ? extends E> b,
+                                                                     Result<? extends C, ? extends E> c,
+                                                                     Combiner3<? super A, ? super B, ? super C, ? extends R> combiner) {
+        if (a.isOk() && b.isOk() && c.isOk()) {
+            return Result.ok(combiner.combine(a.unwrapOrThrow(), b.unwrapOrThrow(), c.unwrapOrThrow()));
+        }
+        return accumulated(a, b, c);
+    }
+
+    /**
+     * Combines four results if all are {@code ok}; otherwise collects the errors of all of them.
+     *
+     * @param a        the first result
+     * @param b        the second result
+     * @param c        the third result
+     * @param d        the fourth result
+     * @param combiner combines the four values
+     * @return {@code ok} with the combined value, {@code err} with all errors, or {@code none} if a {@code none}
+     * was present and there were no errors
+     */
+    public static <A, B, C, D, R, E> Result<R, List<E>> zipAccumulating(Result<? extends A, ? extends E> a,
+                                                                        Result<? extends B, ? extends E> b,
+                                                                        Result<? extends C, ? extends E> c,
+                                                                        Result<? extends D, ? extends E> d,
+                                                                        Combiner4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner) {
+        if (a.isOk() && b.isOk() && c.isOk() && d.isOk()) {
+            return Result.ok(combiner.combine(a.unwrapOrThrow(), b.unwrapOrThrow(), c.unwrapOrThrow(), d.unwrapOrThrow()));
+        }
+        return accumulated(a, b, c, d);
+    }
+
+    // ====== Internal Utility ======
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> listOf(Object[] values, int size) {
+        return (List<T>) Arrays.asList(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Re-types a non-{@code ok} result; err and none results hold no value, so the instance itself is reused.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, E> Result<R, E> failure(Result<?, ? extends E> result) {
+        return (Result<R, E>) result;
+    }
+
+    @SafeVarargs
+    private static <R, E> Result<R, List<E>> accumulated(Result<?, ? extends E>... results) {
+        List<E> errors = new ArrayList<>(results.length);
+        for (Result<?, ? extends E> result : results) {
+            if (result.isErr()) errors.add(result.getError());
+        }
+        return errors.isEmpty() ? Result.none() : Result.err(errors);
+    }
+}
@@ -0,0 +1,94 @@
+package com.anugrahatwork.anukit.result;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Controls whether exceptions created by AnuKit on the error path capture a stack trace.
+ * <p>
+ * Filling in a stack trace dominates the cost of an error under a burst of failures. Use {@link #NONE}
+ * for stackless exceptions, or {@link #sampled(int)} to capture a full trace for only one in N errors.
+ * The global default is {@link #FULL}, which preserves the regular JVM behavior, and can be changed
+ * with {@link #setDefault(StackTraceMode)} or the {@code anukit.stacktrace} system property
+ * ({@code full}, {@code none} or {@code sampled:N}; unrecognized values fall back to {@code full}).
+ */
+public final class StackTraceMode {
+
+    /**
+     * Always capture the stack trace.
+     */
+    public static final StackTraceMode FULL = new StackTraceMode(1);
+
+    /**
+     * Never capture the stack trace.
+     */
+    public static final StackTraceMode NONE = new StackTraceMode(0);
+
+    private static volatile StackTraceMode defaultMode = parse(System.getProperty("anukit.stacktrace"));
+
+    /**
+     * Capture one in {@code sampleRate} traces; {@code 0} never captures, {@code 1} always captures.
+     */
+    private final int sampleRate;
+
+    private StackTraceMode(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Creates a mode that captures a full stack trace for roughly one in {@code oneIn} exceptions.
+     *
+     * @param oneIn sampling rate, must be at least 1
+     * @return the sampling mode
+     */
+    public static StackTraceMode sampled(int oneIn) {
+        if (oneIn < 1) throw new IllegalArgumentException("oneIn must be >= 1: " + oneIn);
+        return oneIn == 1 ? FULL : new StackTraceMode(oneIn);
+    }
+
+    /**
+     * Returns the mode used when none is given explicitly.
+     */
+    public static StackTraceMode getDefault() {
+        return defaultMode;
+    }
+
+    /**
+     * Replaces the global default mode.
+     *
+     * @param mode the new default
+     */
+    public static void setDefault(StackTraceMode mode) {
+        defaultMode = Objects.requireNonNull(mode, "mode");
+    }
+
+    /**
+     * Decides whether the exception about to be created should capture its stack trace.
+     *
+     * @return {@code true} if the stack trace should be writable
+     */
+    public boolean capture() {
+        if (sampleRate <= 1) return sampleRate == 1;
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    @Override
+    public String toString() {
+        if (sampleRate == 1) return "full";
+        if (sampleRate == 0) return "none";
+        return "sampled:" + sampleRate;
+    }
+
+    static StackTraceMode parse(String value) {
+        if (value == null) return FULL;
+        if (value.equalsIgnoreCase("none")) return NONE;
+        if (value.regionMatches(true, 0, "sampled:", 0, 8)) {
+            try {
+                return sampled(Integer.parseInt(value.substring(8).trim()));
+            } catch (IllegalArgumentException e) {
+                return FULL;
+            }
+        }
+        return FULL;
+    }
+}
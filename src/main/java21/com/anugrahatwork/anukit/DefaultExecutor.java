@@ -0,0 +1,20 @@
+package com.anugrahatwork.anukit;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Chooses the executor used by the async helpers when none is given.
+ * <p>
+ * On JDK 21+ every task runs on its own virtual thread, so blocking suppliers (JDBC, file I/O)
+ * no longer starve the common {@link java.util.concurrent.ForkJoinPool}.
+ */
+final class DefaultExecutor {
+
+    private DefaultExecutor() {
+    }
+
+    static Executor create() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -1,15 +1,28 @@
 package com.anugrahatwork.anukit;
 
+import com.anugrahatwork.anukit.result.Partition;
 import com.anugrahatwork.anukit.result.Result;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,6 +86,252 @@ class AnuKitTest {
         assertTrue(results.get(2).isOk());
     }
 
+    @Test
+    void testTryWrapPrimitives() {
+        assertEquals(42, AnuKit.tryWrapInt(() -> Integer.parseInt("42")).unwrapOrThrow());
+        assertTrue(AnuKit.tryWrapInt(() -> Integer.parseInt("x")).isErr());
+
+        assertEquals(10_000_000_000L, AnuKit.tryWrapLong(() -> Long.parseLong("10000000000")).unwrapOrThrow());
+        assertTrue(AnuKit.tryWrapLong(() -> Long.parseLong("x")).isErr());
+
+        assertEquals(1.5, AnuKit.tryWrapDouble(() -> Double.parseDouble("1.5")).unwrapOrThrow());
+        assertEquals("fail!", AnuKit.tryWrapDouble(() -> {
+            throw new IOException("fail!");
+        }).getErrorMessage());
+    }
+
+    @Test
+    void testWrapList_mapToPrimitiveSafe() {
+        List<String> data = Arrays.asList("1", "x", "3");
+
+        assertArrayEquals(new int[]{1, -1, 3}, AnuKit.wrapList(data).mapToIntSafe(Integer::parseInt, -1).toArray());
+        assertEquals(4L, AnuKit.wrapList(data).mapToLongSafe(Long::parseLong, 0L).sum());
+        assertEquals(4.0, AnuKit.wrapList(data).mapToDoubleSafe(Double::parseDouble, 0d).sum());
+    }
+
+    @Test
+    void testWrapList_mapSafeFailFast() {
+        AtomicInteger mapped = new AtomicInteger();
+        Result<List<Integer>, Exception> failed = AnuKit.wrapList(Arrays.asList("1", "x", "3", "4"))
+                .mapSafeFailFast(s -> {
+                    mapped.incrementAndGet();
+                    return Integer.parseInt(s);
+                });
+
+        assertTrue(failed.isErr());
+        assertEquals(2, mapped.get());
+        assertEquals(Arrays.asList(1, 2), AnuKit.wrapList(Arrays.asList("1", "2"))
+                .mapSafeFailFast(Integer::parseInt)
+                .unwrapOrThrow());
+    }
+
+    @Test
+    void testWrapList_mapSafePartitioned() {
+        Partition<Integer, Exception> all = AnuKit.wrapList(Arrays.asList("1", "x", "3", "y"))
+                .mapSafePartitioned(Integer::parseInt);
+        assertEquals(Arrays.asList(1, 3), all.getOks());
+        assertEquals(2, all.getErrors().size());
+
+        Partition<Integer, Exception> firstError = AnuKit.wrapList(Arrays.asList("1", "x", "3", "y"))
+                .mapSafeUntilErrors(Integer::parseInt, 1);
+        assertEquals(Arrays.asList(1), firstError.getOks());
+        assertTrue(firstError.isTruncated());
+    }
+
+    @Test
+    void testWrapIterable_isLateBinding() {
+        List<String> data = new ArrayList<>(Arrays.asList("1", "2"));
+        Stream<Result<Integer, Exception>> stream = AnuKit.wrapIterable(data).mapSafe(Integer::parseInt);
+        data.add("x");
+
+        List<Result<Integer, Exception>> results = stream.collect(Collectors.toList());
+        assertEquals(3, results.size());
+        assertTrue(results.get(2).isErr());
+    }
+
+    @Test
+    void testWrapIterator_pullsLazily() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<String> source = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                return Integer.toString(pulled.incrementAndGet());
+            }
+        };
+
+        List<Integer> firstFive = AnuKit.wrapIterator(source)
+                .mapSafe(Integer::parseInt)
+                .limit(5)
+                .map(Result::unwrapOrThrow)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), firstFive);
+        assertEquals(5, pulled.get());
+    }
+
+    @Test
+    void testWrapSpliteratorAndStream() {
+        assertEquals(2, AnuKit.wrapSpliterator(Arrays.asList("1", "x").spliterator())
+                .mapSafe(Integer::parseInt)
+                .count());
+
+        AtomicInteger closed = new AtomicInteger();
+        try (Stream<Result<Integer, Exception>> results = AnuKit.wrapStream(Stream.of("1", "2").onClose(closed::incrementAndGet))
+                .mapSafe(Integer::parseInt)) {
+            assertEquals(2, results.filter(Result::isOk).count());
+        }
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void testWrapSupplier_endsOnNull() {
+        Iterator<String> pages = Arrays.asList("1", "2", "x").iterator();
+        AtomicInteger calls = new AtomicInteger();
+
+        Partition<Integer, Exception> partition = AnuKit.wrapSupplier(() -> {
+                    calls.incrementAndGet();
+                    return pages.hasNext() ? pages.next() : null;
+                })
+                .mapSafePartitioned(Integer::parseInt);
+
+        assertEquals(Arrays.asList(1, 2), partition.getOks());
+        assertEquals(1, partition.getErrors().size());
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void testWrapList_mapSafeBatched_oneCallPerBatch() {
+        List<Integer> batchSizes = new ArrayList<>();
+        List<String> data = IntStream.range(0, 10).mapToObj(Integer::toString).collect(Collectors.toList());
+
+        List<Integer> results = AnuKit.wrapList(data)
+                .mapSafeBatched((List<String> batch) -> {
+                    batchSizes.add(batch.size());
+                    return batch.stream().map(Integer::parseInt).collect(Collectors.toList());
+                }, 4)
+                .map(Result::unwrapOrThrow)
+                .collect(Collectors.toList());
+
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), results);
+        assertEquals(Arrays.asList(4, 4, 2), batchSizes);
+    }
+
+    @Test
+    void testWrapList_mapSafeBatched_isolatesFailingItem() {
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Result<Integer, Exception>> results = AnuKit.wrapList(Arrays.asList("1", "2", "x", "4", "5", "6"))
+                .mapSafeBatched((List<String> batch) -> {
+                    calls.incrementAndGet();
+                    List<Integer> out = new ArrayList<>();
+                    for (String s : batch) out.add(Integer.parseInt(s));
+                    return out;
+                }, 3)
+                .collect(Collectors.toList());
+
+        assertEquals(6, results.size());
+        assertEquals(1, results.get(0).unwrapOrThrow());
+        assertEquals(2, results.get(1).unwrapOrThrow());
+        assertInstanceOf(NumberFormatException.class, results.get(2).getError());
+        assertEquals(6, results.get(5).unwrapOrThrow());
+        // failing batch once, then three isolated calls, then the second batch
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    void testWrapList_mapSafeBatched_wrongOutputSize() {
+        List<Result<String, Exception>> results = AnuKit.wrapList(Arrays.asList("a", "b"))
+                .mapSafeBatched((List<String> batch) -> Collections.<String>emptyList(), 2)
+                .collect(Collectors.toList());
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(Result::isErr));
+        assertInstanceOf(IllegalStateException.class, results.get(0).getError());
+    }
+
+    @Test
+    void testWrapSupplier_mapSafeBatched_timeBudget() {
+        AtomicInteger produced = new AtomicInteger();
+        List<Integer> batchSizes = new ArrayList<>();
+
+        long count = AnuKit.wrapSupplier(() -> {
+                    int next = produced.incrementAndGet();
+                    if (next > 6) return null;
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return next;
+                })
+                .mapSafeBatched((List<Integer> batch) -> {
+                    batchSizes.add(batch.size());
+                    return batch;
+                }, 100, 1, TimeUnit.NANOSECONDS)
+                .count();
+
+        assertEquals(6, count);
+        assertTrue(batchSizes.size() > 1, "batches " + batchSizes);
+        assertThrows(IllegalArgumentException.class,
+                () -> AnuKit.wrapList(Arrays.asList(1)).mapSafeBatched(batch -> batch, 0));
+    }
+
+    @Test
+    void testWrapList_mapSafeParallel_preservesOrder() {
+        List<String> data = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 100 == 0 ? "x" + i : Integer.toString(i))
+                .collect(Collectors.toList());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Result<Integer, Exception>> results = AnuKit.wrapList(data)
+                    .mapSafeParallel(Integer::parseInt, pool, 64)
+                    .collect(Collectors.toList());
+
+            assertEquals(10_000, results.size());
+            for (int i = 0; i < results.size(); i++) {
+                if (i % 100 == 0) {
+                    assertTrue(results.get(i).isErr());
+                } else {
+                    assertEquals(i, results.get(i).unwrapOrThrow());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testWrapList_mapSafeParallel_usesGivenPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            AnuKit.wrapList(Arrays.asList(1, 2, 3, 4))
+                    .mapSafeParallel(i -> threads.add(Thread.currentThread().getName()), pool, 1)
+                    .forEach(r -> assertTrue(r.isOk()));
+
+            assertFalse(threads.isEmpty());
+            assertTrue(threads.stream().allMatch(name -> name.contains("ForkJoinPool-")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testWrapList_mapSafeParallel_defaultsAndEmpty() {
+        assertEquals(0, AnuKit.wrapList(Arrays.<String>asList()).mapSafeParallel(Integer::parseInt).count());
+        assertEquals(Arrays.asList(1, 2), AnuKit.wrapList(Arrays.asList("1", "2"))
+                .mapSafeParallel(Integer::parseInt)
+                .map(Result::unwrapOrThrow)
+                .collect(Collectors.toList()));
+        assertThrows(IllegalArgumentException.class, () -> AnuKit.wrapList(Arrays.asList("1"))
+                .mapSafeParallel(Integer::parseInt, ForkJoinPool.commonPool(), -1));
+    }
+
     @Test
     void testRunAsync_success() throws ExecutionException, InterruptedException {
         String result = AnuKit.runAsync(() -> "async-ok").get();
@@ -96,6 +355,40 @@ class AnuKitTest {
         assertEquals("crash", result.getErrorMessage());
     }
 
+    @Test
+    void testAsync_withExecutor() throws ExecutionException, InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "anukit-test-executor"));
+        try {
+            assertEquals("anukit-test-executor",
+                    AnuKit.runAsync(() -> Thread.currentThread().getName(), executor).get());
+
+            Result<String, Exception> result = AnuKit.<String>tryWrapAsync(() -> {
+                throw new IOException("on executor");
+            }, executor).get();
+            assertEquals("on executor", result.getErrorMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDefaultExecutor_isPluggable() throws ExecutionException, InterruptedException {
+        Executor original = AnuKit.getDefaultExecutor();
+        AtomicInteger submitted = new AtomicInteger();
+        try {
+            AnuKit.setDefaultExecutor(task -> {
+                submitted.incrementAndGet();
+                task.run();
+            });
+
+            assertEquals("direct", AnuKit.tryWrapAsync(() -> "direct").get().unwrapOrThrow());
+            assertEquals(1, submitted.get());
+            assertThrows(NullPointerException.class, () -> AnuKit.setDefaultExecutor(null));
+        } finally {
+            AnuKit.setDefaultExecutor(original);
+        }
+    }
+
     // ====== Functional Interface Tests ======
 
     @Test
@@ -132,6 +425,17 @@ class AnuKitTest {
         assertEquals("checked!", checked.get());
     }
 
+    @Test
+    void testPrimitiveSupplier_interfaces() throws Exception {
+        AnuKit.CheckedIntSupplier intSupplier = () -> 1;
+        AnuKit.CheckedLongSupplier longSupplier = () -> 2L;
+        AnuKit.CheckedDoubleSupplier doubleSupplier = () -> 3.0;
+
+        assertEquals(1, intSupplier.get());
+        assertEquals(2L, longSupplier.get());
+        assertEquals(3.0, doubleSupplier.get());
+    }
+
     @Test
     void testTransformer_interface() {
         AnuKit.Transformer<String, Integer> transformer = String::length;
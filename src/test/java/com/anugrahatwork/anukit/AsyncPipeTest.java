@@ -0,0 +1,184 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncPipeTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, r -> {
+        Thread thread = new Thread(r, "async-pipe-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testOf_mapChain() {
+        Result<Integer, Exception> result = AsyncPipe.of(" 21 ")
+                .then(String::trim)
+                .map(Integer::parseInt)
+                .map(i -> i * 2)
+                .join();
+
+        assertTrue(result.isOk());
+        assertEquals(42, result.unwrapOrThrow());
+    }
+
+    @Test
+    void testSupply_failureSkipsRemainingStages() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Result<Integer, Exception> result = AsyncPipe.<String>supply(() -> {
+                    throw new IOException("io down");
+                })
+                .map(s -> calls.incrementAndGet())
+                .mapAsync(i -> CompletableFuture.completedFuture(calls.incrementAndGet()))
+                .join();
+
+        assertTrue(result.isErr());
+        assertEquals("io down", result.getErrorMessage());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testMap_withExecutor_runsOnExecutor() {
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        Result<String, Exception> result = AsyncPipe.of("x")
+                .map(s -> {
+                    thread.set(Thread.currentThread().getName());
+                    return s + "y";
+                }, EXECUTOR)
+                .join();
+
+        assertEquals("xy", result.unwrapOrThrow());
+        assertEquals("async-pipe-test", thread.get());
+    }
+
+    @Test
+    void testRejectedExecutor_becomesErr() {
+        Executor rejecting = command -> {
+            throw new RejectedExecutionException("saturated");
+        };
+
+        CompletableFuture<Result<String, Exception>> mapped = AsyncPipe.of("x").map(s -> s, rejecting).toFuture();
+        CompletableFuture<Result<String, Exception>> flatMapped = AsyncPipe.of("x")
+                .flatMapAsync(s -> CompletableFuture.completedFuture(Result.<String, Exception>ok(s)), rejecting)
+                .toFuture();
+
+        assertFalse(mapped.isCompletedExceptionally());
+        assertFalse(flatMapped.isCompletedExceptionally());
+        assertInstanceOf(RejectedExecutionException.class, mapped.join().getError());
+        assertInstanceOf(RejectedExecutionException.class, flatMapped.join().getError());
+    }
+
+    @Test
+    void testErrorsAndNullStages_becomeErr() {
+        CompletableFuture<Result<String, Exception>> supplied = AsyncPipe.<String>supply(() -> {
+            throw new AssertionError("supplier");
+        }, EXECUTOR).toFuture();
+        CompletableFuture<Result<String, Exception>> mapped = AsyncPipe.of("x").<String>map(s -> {
+            throw new AssertionError("stage");
+        }).toFuture();
+        CompletableFuture<Result<String, Exception>> nullStage = AsyncPipe.of("x")
+                .<String>flatMapAsync(s -> null)
+                .toFuture();
+
+        assertInstanceOf(AssertionError.class, supplied.join().getError().getCause());
+        assertInstanceOf(AssertionError.class, mapped.join().getError().getCause());
+        assertInstanceOf(NullPointerException.class, nullStage.join().getError());
+        assertFalse(supplied.isCompletedExceptionally() || mapped.isCompletedExceptionally()
+                || nullStage.isCompletedExceptionally());
+    }
+
+    @Test
+    void testMapAsync_exceptionalStageBecomesErr() {
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("remote failed"));
+
+        CompletableFuture<Result<Integer, Exception>> future = AsyncPipe.of("x")
+                .mapAsync(s -> failed)
+                .toFuture();
+
+        assertFalse(future.isCompletedExceptionally());
+        Result<Integer, Exception> result = future.join();
+        assertTrue(result.isErr());
+        assertInstanceOf(IllegalStateException.class, result.getError());
+    }
+
+    @Test
+    void testMapAsync_withExecutor() {
+        Result<Integer, Exception> result = AsyncPipe.of("abc")
+                .mapAsync(s -> CompletableFuture.supplyAsync(s::length, EXECUTOR), EXECUTOR)
+                .join();
+
+        assertEquals(3, result.unwrapOrThrow());
+    }
+
+    @Test
+    void testFlatMapAsync_chainsTryWrapAsync() {
+        Result<Integer, Exception> ok = AsyncPipe.supply(() -> "7", EXECUTOR)
+                .flatMapAsync(s -> AnuKit.tryWrapAsync(() -> Integer.parseInt(s)))
+                .join();
+        assertEquals(7, ok.unwrapOrThrow());
+
+        Result<Integer, Exception> err = AsyncPipe.of("seven")
+                .flatMapAsync(s -> AnuKit.tryWrapAsync(() -> Integer.parseInt(s)), EXECUTOR)
+                .join();
+        assertTrue(err.isErr());
+        assertInstanceOf(NumberFormatException.class, err.getError());
+    }
+
+    @Test
+    void testFlatMapAsync_transformerThrowsSynchronously() {
+        Result<Integer, Exception> result = AsyncPipe.of("x")
+                .<Integer>flatMapAsync(s -> {
+                    throw new IOException("before submit");
+                })
+                .join();
+
+        assertEquals("before submit", result.getErrorMessage());
+    }
+
+    @Test
+    void testFrom_exceptionalFutureBecomesErr() {
+        CompletableFuture<Result<String, Exception>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("lost"));
+
+        Result<String, Exception> result = AsyncPipe.from(failed).then(String::trim).join();
+
+        assertTrue(result.isErr());
+        assertEquals("lost", result.getErrorMessage());
+    }
+
+    @Test
+    void testSynchronousStages_stayOnCallerThread() {
+        String caller = Thread.currentThread().getName();
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        AsyncPipe.of("x")
+                .map(s -> {
+                    thread.set(Thread.currentThread().getName());
+                    return s;
+                })
+                .join();
+
+        assertEquals(caller, thread.get());
+    }
+}
@@ -0,0 +1,166 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkExecutionTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "bulk-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testTryWrapAll_resultsInInputOrder() {
+        List<AnuKit.CheckedSupplier<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int value = i;
+            tasks.add(() -> {
+                if (value % 10 == 0) throw new IOException("bad " + value);
+                Thread.sleep(value % 3);
+                return value;
+            });
+        }
+
+        List<Result<Integer, Exception>> results = AnuKit.tryWrapAll(tasks, 8, EXECUTOR).join();
+
+        assertEquals(200, results.size());
+        for (int i = 0; i < 200; i++) {
+            if (i % 10 == 0) {
+                assertEquals("bad " + i, results.get(i).getErrorMessage());
+            } else {
+                assertEquals(i, results.get(i).unwrapOrThrow());
+            }
+        }
+    }
+
+    @Test
+    void testMaxConcurrencyIsRespected() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<AnuKit.CheckedSupplier<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(() -> {
+                int now = inFlight.incrementAndGet();
+                peak.accumulateAndGet(now, Math::max);
+                Thread.sleep(1);
+                inFlight.decrementAndGet();
+                return now;
+            });
+        }
+
+        AnuKit.tryWrapAll(tasks, 4, EXECUTOR).join();
+
+        assertTrue(peak.get() <= 4, "peak " + peak.get());
+    }
+
+    @Test
+    void testTryWrapEach_streamsLazySource() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<AnuKit.CheckedSupplier<Integer>> source = new Iterator<AnuKit.CheckedSupplier<Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return pulled.get() < 1_000;
+            }
+
+            @Override
+            public AnuKit.CheckedSupplier<Integer> next() {
+                int value = pulled.getAndIncrement();
+                return () -> value;
+            }
+        };
+        ConcurrentHashMap<Long, Integer> seen = new ConcurrentHashMap<>();
+
+        AnuKit.tryWrapEach(source, 16, (index, result) -> seen.put(index, result.unwrapOrThrow()), EXECUTOR).join();
+
+        assertEquals(1_000, seen.size());
+        seen.forEach((index, value) -> assertEquals(index.intValue(), value));
+    }
+
+    @Test
+    void testCancel_stopsPullingAndInterruptsRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicInteger executed = new AtomicInteger();
+        List<AnuKit.CheckedSupplier<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(() -> {
+                executed.incrementAndGet();
+                started.countDown();
+                Thread.sleep(10_000);
+                return 1;
+            });
+        }
+
+        BulkExecution<List<Result<Integer, Exception>>> execution = AnuKit.tryWrapAll(tasks, 2, EXECUTOR);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        execution.cancel(true);
+
+        List<Result<Integer, Exception>> results = execution.future().get(5, TimeUnit.SECONDS);
+        assertTrue(execution.isCancelled());
+        assertEquals(2, executed.get());
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(Result::isErr));
+        assertInstanceOf(InterruptedException.class, results.get(0).getError());
+    }
+
+    @Test
+    void testForeignInterrupt_isNotCleared() throws Exception {
+        AtomicReference<Boolean> interruptedAfterWork = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        List<AnuKit.CheckedSupplier<Integer>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            Thread.currentThread().interrupt();
+            return 1;
+        });
+
+        AnuKit.tryWrapAll(tasks, 1, command -> new Thread(() -> {
+            command.run();
+            interruptedAfterWork.set(Thread.interrupted());
+            done.countDown();
+        }).start());
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(interruptedAfterWork.get());
+    }
+
+    @Test
+    void testListenerFailureCompletesExceptionally() {
+        List<AnuKit.CheckedSupplier<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) tasks.add(() -> 1);
+
+        BulkExecution<Void> execution = AnuKit.tryWrapEach(tasks.iterator(), 2, (index, result) -> {
+            throw new IllegalStateException("listener broke");
+        }, EXECUTOR);
+
+        CompletionException thrown = assertThrows(CompletionException.class, execution::join);
+        assertEquals("listener broke", thrown.getCause().getMessage());
+    }
+
+    @Test
+    void testInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AnuKit.tryWrapAll(new ArrayList<AnuKit.CheckedSupplier<Integer>>(), 0));
+    }
+}
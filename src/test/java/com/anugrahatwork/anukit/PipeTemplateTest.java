@@ -0,0 +1,105 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipeTemplateTest {
+
+    private static final PipeTemplate<String, Integer> PARSE = PipeTemplate.<String>start()
+            .then(String::trim)
+            .map(Integer::parseInt)
+            .then(i -> i * 2);
+
+    @Test
+    void testStart_isIdentity() {
+        PipeTemplate<String, String> identity = PipeTemplate.start();
+
+        assertEquals(0, identity.size());
+        assertEquals("same", identity.run("same").unwrapOrThrow());
+    }
+
+    @Test
+    void testRun_success() {
+        Result<Integer, Exception> result = PARSE.run(" 21 ");
+
+        assertTrue(result.isOk());
+        assertEquals(42, result.unwrapOrThrow());
+        assertEquals(3, PARSE.size());
+    }
+
+    @Test
+    void testRun_failureSkipsRemainingStages() {
+        AtomicInteger calls = new AtomicInteger();
+        PipeTemplate<String, Integer> template = PipeTemplate.<String>start()
+                .map(Integer::parseInt)
+                .then(i -> {
+                    calls.incrementAndGet();
+                    return i;
+                });
+
+        Result<Integer, Exception> result = template.run("x");
+
+        assertTrue(result.isErr());
+        assertInstanceOf(NumberFormatException.class, result.getError());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testApply_rawAndFallback() throws Exception {
+        assertEquals(10, PARSE.apply("5"));
+        assertThrows(NumberFormatException.class, () -> PARSE.apply("five"));
+        assertEquals(-1, PARSE.applyOr("five", -1));
+    }
+
+    @Test
+    void testTemplatesAreImmutable() {
+        PipeTemplate<String, String> base = PipeTemplate.<String>start().then(String::trim);
+        PipeTemplate<String, String> upper = base.then(String::toUpperCase);
+        PipeTemplate<String, String> lower = base.then(String::toLowerCase);
+
+        assertEquals(1, base.size());
+        assertEquals(" Ab ".trim(), base.run(" Ab ").unwrapOrThrow());
+        assertEquals("AB", upper.run(" Ab ").unwrapOrThrow());
+        assertEquals("ab", lower.run(" Ab ").unwrapOrThrow());
+    }
+
+    @Test
+    void testUsableAsSafeTransformer() {
+        List<Result<Integer, Exception>> results = AnuKit.wrapList(Arrays.asList("1", "x", "3"))
+                .mapSafe(PARSE)
+                .collect(Collectors.toList());
+
+        assertEquals(2, results.get(0).unwrapOrThrow());
+        assertTrue(results.get(1).isErr());
+        assertEquals(6, results.get(2).unwrapOrThrow());
+    }
+
+    @Test
+    void testSharedAcrossThreads() {
+        int sum = IntStream.range(0, 10_000).parallel()
+                .map(i -> PARSE.applyOr(Integer.toString(i), 0))
+                .sum();
+
+        assertEquals(2 * (9_999 * 10_000 / 2), sum);
+    }
+
+    @Test
+    void testRun_errorNamesFailingStage() {
+        PipeTemplate<String, Integer> template = PipeTemplate.<String>start()
+                .then("trim", String::trim)
+                .map("parse", Integer::parseInt);
+
+        Result<Integer, Exception> result = template.run(" x ");
+
+        assertEquals("stage 1 (parse)", result.getMessage());
+        assertNull(template.run("5").getContext());
+    }
+}
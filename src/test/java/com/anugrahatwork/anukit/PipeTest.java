@@ -3,6 +3,8 @@ package com.anugrahatwork.anukit;
 import com.anugrahatwork.anukit.result.Result;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PipeTest {
@@ -81,4 +83,113 @@ class PipeTest {
         assertTrue(result.isOk());
         assertEquals("ok", result.unwrapOrThrow());
     }
+
+    @Test
+    void testMap_changesType() {
+        Result<Integer, Exception> result = Pipe.of(" 21 ")
+                .then(String::trim)
+                .map(Integer::parseInt)
+                .map(i -> i * 2)
+                .getResult();
+
+        assertTrue(result.isOk());
+        assertEquals(42, result.unwrapOrThrow());
+    }
+
+    @Test
+    void testMap_leavesSourcePipeUnchanged() {
+        Pipe<String> source = Pipe.of("21");
+
+        Pipe<Integer> parsed = source.map(Integer::parseInt);
+        Pipe<Integer> length = source.flatMap(s -> Result.ok(s.length()));
+
+        assertNotSame(source, parsed);
+        assertEquals("21", source.getResult().unwrapOrThrow());
+        assertEquals(21, parsed.getResult().unwrapOrThrow());
+        assertEquals(2, length.getResult().unwrapOrThrow());
+    }
+
+    @Test
+    void testMap_errorSkipsRemainingStages() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Result<String, Exception> result = Pipe.of("x")
+                .map(Integer::parseInt)
+                .map(i -> {
+                    calls.incrementAndGet();
+                    return i + 1;
+                })
+                .then(i -> {
+                    calls.incrementAndGet();
+                    return i;
+                })
+                .map(String::valueOf)
+                .getResult();
+
+        assertTrue(result.isErr());
+        assertInstanceOf(NumberFormatException.class, result.getError());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testFlatMap_adoptsResultState() {
+        assertEquals(5, Pipe.of("hello")
+                .flatMap(s -> Result.ok(s.length()))
+                .getResult()
+                .unwrapOrThrow());
+
+        Result<Integer, Exception> err = Pipe.of("hello")
+                .<Integer>flatMap(s -> Result.err(new IllegalArgumentException("rejected")))
+                .getResult();
+        assertTrue(err.isErr());
+        assertEquals("rejected", err.getErrorMessage());
+
+        assertTrue(Pipe.of("hello").flatMap(s -> Result.none()).getResult().isNone());
+    }
+
+    @Test
+    void testFilter() {
+        assertEquals("keep", Pipe.of("keep").filter(s -> s.startsWith("k")).getResult().unwrapOrThrow());
+
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer, Exception> filtered = Pipe.of("drop")
+                .filter(s -> s.startsWith("k"))
+                .map(s -> calls.incrementAndGet())
+                .getResult();
+
+        assertTrue(filtered.isNone());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testGetResult_isCachedUntilNextStage() {
+        Pipe<String> pipe = Pipe.of("a");
+        Result<String, Exception> first = pipe.getResult();
+
+        assertSame(first, pipe.getResult());
+        assertEquals("ab", pipe.then(s -> s + "b").getResult().unwrapOrThrow());
+        assertEquals("a", first.unwrapOrThrow());
+    }
+
+    @Test
+    void testFailedStage_isRecordedInContext() {
+        Result<Integer, Exception> result = Pipe.of(" x ")
+                .then(String::trim)
+                .map("parse", Integer::parseInt)
+                .then(n -> n + 1)
+                .getResult();
+
+        assertTrue(result.isErr());
+        assertEquals(1, result.getContext().getStage());
+        assertEquals("stage 1 (parse)", result.getMessage());
+    }
+
+    @Test
+    void testFlatMapError_keepsItsContext() {
+        Result<Integer, Exception> result = Pipe.of("a")
+                .flatMap(s -> Result.<Integer, Exception>err(new IllegalStateException("no")).withContext("lookup {}", s))
+                .getResult();
+
+        assertEquals("stage 0: lookup a", result.getMessage());
+    }
 }
@@ -0,0 +1,220 @@
+package com.anugrahatwork.anukit;
+
+import com.anugrahatwork.anukit.resilience.AllAttemptsFailedException;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskScopeTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "scope-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testAwaitAll_valuesInForkOrder() {
+        try (TaskScope<Integer> scope = TaskScope.open(TaskScope.Policy.AWAIT_ALL, EXECUTOR)) {
+            scope.fork(() -> {
+                Thread.sleep(50);
+                return 1;
+            });
+            scope.fork(() -> 2);
+
+            assertEquals(Arrays.asList(1, 2), scope.join().unwrapOrThrow());
+        }
+    }
+
+    @Test
+    void testCancelOnFirstErr_interruptsSiblings() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        long start = System.nanoTime();
+        try (TaskScope<String> scope = TaskScope.open(TaskScope.Policy.CANCEL_ON_FIRST_ERR, EXECUTOR)) {
+            TaskScope.Subtask<String> slow = scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+                return "slow";
+            });
+            scope.fork(() -> {
+                started.await();
+                throw new IOException("down");
+            });
+
+            Result<List<String>, Exception> joined = scope.join();
+
+            assertInstanceOf(IOException.class, joined.getError());
+            assertEquals("task 1", joined.getMessage());
+            assertTrue(slow.isCancelled());
+            assertTrue(slow.isDone());
+            assertTrue(scope.isShutdown());
+        }
+        assertTrue(interrupted.get());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void testReturnOnFirstOk_cancelsTheRest() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        try (TaskScope<String> scope = TaskScope.open(TaskScope.Policy.RETURN_ON_FIRST_OK, EXECUTOR)) {
+            scope.fork(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    throw e;
+                }
+                return "slow";
+            });
+            scope.fork(() -> {
+                started.await();
+                return "fast";
+            });
+
+            assertEquals("fast", scope.joinFirst().unwrapOrThrow());
+        }
+        assertTrue(interrupted.get());
+    }
+
+    @Test
+    void testJoinFirst_allFailed() {
+        try (TaskScope<String> scope = TaskScope.open(TaskScope.Policy.RETURN_ON_FIRST_OK, EXECUTOR)) {
+            scope.fork(() -> {
+                throw new IOException("a");
+            });
+            scope.fork(() -> {
+                throw new IOException("b");
+            });
+
+            Exception error = scope.joinFirst().getError();
+            assertInstanceOf(AllAttemptsFailedException.class, error);
+            assertEquals(2, ((AllAttemptsFailedException) error).getErrors().size());
+        }
+    }
+
+    @Test
+    void testClose_waitsForRunningTasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        TaskScope<Void> scope = TaskScope.open(TaskScope.Policy.AWAIT_ALL, EXECUTOR);
+        scope.fork(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } finally {
+                Thread.sleep(50);
+                finished.set(true);
+            }
+            return null;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        scope.close();
+
+        assertTrue(finished.get());
+        assertThrows(IllegalStateException.class, () -> scope.fork(() -> null));
+    }
+
+    @Test
+    void testForkAfterShutdown_neverRuns() {
+        AtomicBoolean ran = new AtomicBoolean();
+        try (TaskScope<Boolean> scope = TaskScope.open(TaskScope.Policy.AWAIT_ALL, EXECUTOR)) {
+            scope.shutdown();
+            TaskScope.Subtask<Boolean> subtask = scope.fork(() -> {
+                ran.set(true);
+                return true;
+            });
+
+            assertTrue(subtask.isCancelled());
+            assertInstanceOf(CancellationException.class, subtask.getResult().getError());
+            assertInstanceOf(CancellationException.class, scope.join().getError());
+        }
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void testJoin_interruptionPropagatesToTasks() throws Exception {
+        AtomicBoolean taskInterrupted = new AtomicBoolean();
+        AtomicReference<Result<List<Object>, Exception>> joined = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        TaskScope<Object> scope = TaskScope.open(TaskScope.Policy.AWAIT_ALL, EXECUTOR);
+        scope.fork(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                taskInterrupted.set(true);
+                throw e;
+            }
+            return null;
+        });
+        Thread joiner = new Thread(() -> joined.set(scope.join()));
+        joiner.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        joiner.interrupt();
+        joiner.join(5_000);
+
+        assertInstanceOf(InterruptedException.class, joined.get().getError());
+        assertTrue(taskInterrupted.get());
+    }
+
+    @Test
+    void testRejectedTask_isErr() {
+        try (TaskScope<Integer> scope = TaskScope.open(TaskScope.Policy.CANCEL_ON_FIRST_ERR, r -> {
+            throw new RejectedExecutionException("full");
+        })) {
+            TaskScope.Subtask<Integer> subtask = scope.fork(() -> 1);
+
+            assertInstanceOf(RejectedExecutionException.class, subtask.getResult().getError());
+            assertInstanceOf(RejectedExecutionException.class, scope.join().getError());
+        }
+    }
+
+    @Test
+    void testForeignInterrupt_isNotCleared() throws Exception {
+        AtomicReference<Boolean> interruptedAfterTask = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try (TaskScope<Integer> scope = TaskScope.open(TaskScope.Policy.AWAIT_ALL, r -> new Thread(() -> {
+            r.run();
+            interruptedAfterTask.set(Thread.interrupted());
+            done.countDown();
+        }).start())) {
+            scope.fork(() -> {
+                Thread.currentThread().interrupt();
+                return 1;
+            });
+            assertTrue(scope.join().isOk());
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(interruptedAfterTask.get());
+    }
+}
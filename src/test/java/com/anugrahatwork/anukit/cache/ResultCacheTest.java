@@ -0,0 +1,136 @@
+package com.anugrahatwork.anukit.cache;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    @Test
+    void testGet_loadsOnceAndCountsHits() {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<Integer, String> cache = ResultCache.memoize((Integer key) -> {
+            loads.incrementAndGet();
+            return "v" + key;
+        });
+
+        assertEquals("v1", cache.get(1).unwrapOrThrow());
+        assertEquals("v1", cache.get(1).unwrapOrThrow());
+
+        assertEquals(1, loads.get());
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void testGet_cachesErrorsUntilErrTtl() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<String, Integer> cache = ResultCache.<String, Integer>memoize(key -> {
+            loads.incrementAndGet();
+            throw new IOException("bad key " + key);
+        }).withErrTtl(50, TimeUnit.MILLISECONDS);
+
+        Result<Integer, Exception> first = cache.get("x");
+        Result<Integer, Exception> second = cache.get("x");
+
+        assertTrue(first.isErr());
+        assertSame(first.getError(), second.getError());
+        assertEquals(1, loads.get());
+
+        Thread.sleep(80);
+        cache.get("x");
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().getExpirationCount());
+    }
+
+    @Test
+    void testWithErrTtl_zeroDisablesNegativeCaching() {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<String, Integer> cache = ResultCache.<String, Integer>memoize(key -> {
+            loads.incrementAndGet();
+            throw new IOException("down");
+        }).withErrTtl(0, TimeUnit.SECONDS);
+
+        cache.get("x");
+        cache.get("x");
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testWithOkTtl_expiresValues() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<String, Integer> cache = ResultCache.memoize((String key) -> loads.incrementAndGet())
+                .withOkTtl(50, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, cache.get("x").unwrapOrThrow());
+        Thread.sleep(80);
+
+        assertNull(cache.getIfPresent("x"));
+        assertEquals(2, cache.get("x").unwrapOrThrow());
+    }
+
+    @Test
+    void testWithMaximumSize_evictsLeastRecentlyUsed() {
+        ResultCache<Integer, Integer> cache = ResultCache.memoize((Integer key) -> key * 10).withMaximumSize(2);
+
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        cache.get(3);
+
+        assertNotNull(cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+        assertNotNull(cache.getIfPresent(3));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    void testWithMaximumWeight_boundsTotalWeight() {
+        ResultCache<String, String> cache = ResultCache.memoize((String key) -> key)
+                .withMaximumWeight(10, (key, value) -> value.length());
+
+        cache.get("aaaa");
+        cache.get("bbbb");
+        cache.get("cccc");
+        cache.get("this value is too heavy");
+
+        assertNull(cache.getIfPresent("aaaa"));
+        assertNull(cache.getIfPresent("this value is too heavy"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testApply_throwsCachedErrorAndWorksWithSafeMap() throws Exception {
+        ResultCache<String, Integer> cache = AnuKit.memoize(Integer::parseInt);
+
+        assertEquals(42, cache.apply("42"));
+        assertThrows(NumberFormatException.class, () -> cache.apply("x"));
+        assertEquals(-1, AnuKit.safeMap("x", -1, cache));
+    }
+
+    @Test
+    void testInvalidate() {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<String, Integer> cache = ResultCache.memoize((String key) -> loads.incrementAndGet());
+
+        cache.get("a");
+        cache.get("b");
+        cache.invalidate("a");
+        cache.get("a");
+        assertEquals(3, loads.get());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+}
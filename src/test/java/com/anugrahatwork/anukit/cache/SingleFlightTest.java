@@ -0,0 +1,146 @@
+package com.anugrahatwork.anukit.cache;
+
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "single-flight-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallsForSameKey_runOnce() throws Exception {
+        SingleFlight<String, Integer> flight = SingleFlight.create();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<CompletableFuture<Result<Integer, Exception>>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(flight.tryWrapAsync("k", () -> {
+                release.await();
+                return calls.incrementAndGet();
+            }, POOL));
+        }
+        assertEquals(1, flight.size());
+        release.countDown();
+
+        for (CompletableFuture<Result<Integer, Exception>> future : futures) {
+            assertEquals(1, future.get(5, TimeUnit.SECONDS).unwrapOrThrow());
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0, flight.size());
+    }
+
+    @Test
+    void testDifferentKeys_runSeparately() throws Exception {
+        SingleFlight<String, String> flight = SingleFlight.create();
+
+        assertEquals("a", flight.tryWrapAsync("a", () -> "a", POOL).get(5, TimeUnit.SECONDS).unwrapOrThrow());
+        assertEquals("b", flight.tryWrapAsync("b", () -> "b", POOL).get(5, TimeUnit.SECONDS).unwrapOrThrow());
+    }
+
+    @Test
+    void testCompletedCall_notReusedWithoutWindow() throws Exception {
+        SingleFlight<String, Integer> flight = SingleFlight.create();
+        AtomicInteger calls = new AtomicInteger();
+
+        flight.tryWrapAsync("k", calls::incrementAndGet, POOL).get(5, TimeUnit.SECONDS);
+        flight.tryWrapAsync("k", calls::incrementAndGet, POOL).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testReuseWindow_sharesRecentOutcome() throws Exception {
+        SingleFlight<String, Integer> flight = SingleFlight.<String, Integer>create()
+                .withReuseWindow(50, TimeUnit.MILLISECONDS);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals(1, flight.tryWrapAsync("k", calls::incrementAndGet, POOL).get(5, TimeUnit.SECONDS).unwrapOrThrow());
+        assertEquals(1, flight.tryWrapAsync("k", calls::incrementAndGet, POOL).get(5, TimeUnit.SECONDS).unwrapOrThrow());
+
+        Thread.sleep(80);
+        assertEquals(2, flight.tryWrapAsync("k", calls::incrementAndGet, POOL).get(5, TimeUnit.SECONDS).unwrapOrThrow());
+        assertEquals(1, flight.size());
+    }
+
+    @Test
+    void testErrorsAreShared() throws Exception {
+        SingleFlight<String, Integer> flight = SingleFlight.create();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Result<Integer, Exception>> first = flight.tryWrapAsync("k", () -> {
+            release.await();
+            throw new IOException("down");
+        }, POOL);
+        CompletableFuture<Result<Integer, Exception>> second = flight.tryWrapAsync("k", () -> 1, POOL);
+        release.countDown();
+
+        assertTrue(first.get(5, TimeUnit.SECONDS).isErr());
+        assertSame(first.get().getError(), second.get(5, TimeUnit.SECONDS).getError());
+    }
+
+    @Test
+    void testCancellingOneCaller_doesNotAffectOthers() throws Exception {
+        SingleFlight<String, String> flight = SingleFlight.create();
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Result<String, Exception>> first = flight.tryWrapAsync("k", () -> {
+            release.await();
+            return "v";
+        }, POOL);
+        CompletableFuture<Result<String, Exception>> second = flight.tryWrapAsync("k", () -> "other", POOL);
+        first.cancel(true);
+        release.countDown();
+
+        assertEquals("v", second.get(5, TimeUnit.SECONDS).unwrapOrThrow());
+    }
+
+    @Test
+    void testRejectedExecution_completesWithError() throws Exception {
+        SingleFlight<String, String> flight = SingleFlight.create();
+
+        Result<String, Exception> result = flight.tryWrapAsync("k", () -> "v", command -> {
+            throw new java.util.concurrent.RejectedExecutionException("full");
+        }).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isErr());
+        assertEquals(0, flight.size());
+    }
+
+    @Test
+    void testSupplierError_failsWaitersAndReleasesKey() throws Exception {
+        SingleFlight<String, String> flight = SingleFlight.create();
+
+        CompletableFuture<Result<String, Exception>> failed = flight.tryWrapAsync("k", () -> {
+            throw new AssertionError("broken");
+        }, POOL);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, thrown.getCause());
+        assertEquals(0, flight.size());
+        assertEquals("v", flight.tryWrapAsync("k", () -> "v", POOL).get(5, TimeUnit.SECONDS).unwrapOrThrow());
+    }
+}
@@ -0,0 +1,106 @@
+package com.anugrahatwork.anukit.codec;
+
+import com.anugrahatwork.anukit.result.PropagateErrorException;
+import com.anugrahatwork.anukit.result.Result;
+import com.anugrahatwork.anukit.result.StackTraceMode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionCodecTest {
+
+    private static Exception roundTrip(ExceptionCodec codec, Exception value) {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(value));
+        codec.write(value, buffer);
+        assertFalse(buffer.hasRemaining(), "sizeOf must match the bytes written");
+        buffer.flip();
+        return codec.read(buffer);
+    }
+
+    @Test
+    void testClassMessageAndCause_withoutStackTrace() {
+        Exception original = new IllegalStateException("outer", new IOException("disk"));
+
+        Exception decoded = roundTrip(ExceptionCodec.create(), original);
+
+        assertInstanceOf(DecodedException.class, decoded);
+        assertEquals("java.lang.IllegalStateException: outer", decoded.toString());
+        assertEquals(0, decoded.getStackTrace().length);
+        DecodedException cause = (DecodedException) decoded.getCause();
+        assertEquals(IOException.class.getName(), cause.getClassName());
+        assertEquals("disk", cause.getMessage());
+    }
+
+    @Test
+    void testStackTraces_whenRequested() {
+        Exception original = new IOException("io");
+        ExceptionCodec codec = ExceptionCodec.create().withStackTraces(true);
+
+        Exception decoded = roundTrip(codec, original);
+
+        StackTraceElement[] expected = original.getStackTrace();
+        StackTraceElement[] actual = decoded.getStackTrace();
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].getClassName(), actual[i].getClassName());
+            assertEquals(expected[i].getMethodName(), actual[i].getMethodName());
+            assertEquals(expected[i].getFileName(), actual[i].getFileName());
+            assertEquals(expected[i].getLineNumber(), actual[i].getLineNumber());
+        }
+        assertTrue(codec.sizeOf(original) > ExceptionCodec.create().sizeOf(original));
+    }
+
+    @Test
+    void testPropagateErrorException_keepsErrorObject() {
+        PropagateErrorException withString = new PropagateErrorException("failed", null, "code-42", StackTraceMode.NONE);
+        PropagateErrorException withException = new PropagateErrorException(new IOException("io"));
+
+        Exception decodedString = roundTrip(ExceptionCodec.create(), withString);
+        Exception decodedException = roundTrip(ExceptionCodec.create(), withException);
+
+        assertInstanceOf(PropagateErrorException.class, decodedString);
+        assertEquals("failed", decodedString.getMessage());
+        assertEquals("code-42", ((PropagateErrorException) decodedString).getError());
+        Object error = ((PropagateErrorException) decodedException).getError();
+        assertEquals(IOException.class.getName(), ((DecodedException) error).getClassName());
+    }
+
+    @Test
+    void testUnwrapOrThrow_errorWrittenOnceAsCause() {
+        IOException cause = new IOException("disk");
+        PropagateErrorException thrown = assertThrows(PropagateErrorException.class,
+                () -> Result.err(cause).unwrapOrThrow());
+        ExceptionCodec codec = ExceptionCodec.create();
+
+        PropagateErrorException decoded = (PropagateErrorException) roundTrip(codec, thrown);
+
+        assertEquals(thrown.getMessage(), decoded.getMessage());
+        assertSame(decoded.getCause(), decoded.getError());
+        assertEquals(IOException.class.getName(), ((DecodedException) decoded.getCause()).getClassName());
+        assertEquals(2 + Bytes.sizeOfString(thrown.getMessage()) + codec.sizeOf(cause), codec.sizeOf(thrown));
+        PropagateErrorException withTraces = (PropagateErrorException) roundTrip(codec.withStackTraces(true), thrown);
+        assertSame(withTraces.getCause(), withTraces.getError());
+    }
+
+    @Test
+    void testMaxCauseDepth_dropsDeeperCauses() {
+        Exception original = new Exception("a", new Exception("b", new Exception("c")));
+
+        Exception decoded = roundTrip(ExceptionCodec.create().withMaxCauseDepth(1), original);
+
+        assertEquals("b", decoded.getCause().getMessage());
+        assertNull(decoded.getCause().getCause());
+    }
+
+    @Test
+    void testDecodedException_reencodesWithOriginalClassName() {
+        Exception decoded = roundTrip(ExceptionCodec.create(), new IOException("io"));
+
+        DecodedException again = (DecodedException) roundTrip(ExceptionCodec.create(), decoded);
+
+        assertEquals(IOException.class.getName(), again.getClassName());
+    }
+}
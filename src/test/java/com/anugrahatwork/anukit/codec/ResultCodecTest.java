@@ -0,0 +1,88 @@
+package com.anugrahatwork.anukit.codec;
+
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCodecTest {
+
+    private final ResultCodec<String, Exception> codec = ResultCodec.of(ValueCodec.strings());
+
+    @Test
+    void testOk_roundTrip() {
+        ByteBuffer encoded = codec.encode(Result.ok("value"));
+
+        assertEquals(7, encoded.remaining());
+        assertEquals("value", codec.decode(encoded).unwrapOrThrow());
+        assertFalse(encoded.hasRemaining());
+    }
+
+    @Test
+    void testOkNullAndNone_takeOneByte() {
+        ByteBuffer okNull = codec.encode(Result.ok(null));
+        ByteBuffer none = codec.encode(Result.none());
+
+        assertEquals(1, okNull.remaining());
+        assertEquals(1, none.remaining());
+        Result<String, Exception> decodedOk = codec.decode(okNull);
+        assertTrue(decodedOk.isOk());
+        assertNull(decodedOk.unwrapOrThrow());
+        assertTrue(codec.decode(none).isNone());
+    }
+
+    @Test
+    void testErr_keepsErrorAndContext() {
+        Result<String, Exception> original = Result.<String, Exception>err(new IOException("down"))
+                .withStage(2, "fetch")
+                .withContext("user {}", 42);
+
+        Result<String, Exception> decoded = codec.decode(codec.encode(original));
+
+        assertTrue(decoded.isErr());
+        assertEquals("down", decoded.getError().getMessage());
+        assertEquals(original.getMessage(), decoded.getMessage());
+        assertEquals(2, decoded.getContext().getInner().getStage());
+        assertEquals("fetch", decoded.getContext().getInner().getOperation());
+    }
+
+    @Test
+    void testManyResults_backToBackInOneDirectBuffer() {
+        ResultCodec<Integer, String> ints = ResultCodec.of(ValueCodec.ints(), ValueCodec.strings());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        for (int i = 0; i < 100; i++) {
+            ints.encode(i % 10 == 0 ? Result.err("bad " + i) : Result.ok(i), buffer);
+        }
+        buffer.flip();
+
+        for (int i = 0; i < 100; i++) {
+            Result<Integer, String> decoded = ints.decode(buffer);
+            if (i % 10 == 0) assertEquals("bad " + i, decoded.getError());
+            else assertEquals(i, decoded.unwrapOrThrow());
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testInvalidHeader_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(new byte[]{3})));
+    }
+
+    @Test
+    void testErr_muchSmallerThanJavaSerialization() throws IOException {
+        IOException error = new IOException("connection refused");
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(error);
+        }
+
+        int encoded = codec.sizeOf(Result.err(error));
+
+        assertTrue(encoded * 10 < serialized.size(), encoded + " vs " + serialized.size());
+    }
+}
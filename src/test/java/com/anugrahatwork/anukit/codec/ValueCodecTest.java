@@ -0,0 +1,60 @@
+package com.anugrahatwork.anukit.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueCodecTest {
+
+    private static <T> T roundTrip(ValueCodec<T> codec, T value) {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(value));
+        codec.write(value, buffer);
+        assertFalse(buffer.hasRemaining(), "sizeOf must match the bytes written");
+        buffer.flip();
+        T decoded = codec.read(buffer);
+        assertFalse(buffer.hasRemaining(), "read must consume the bytes written");
+        return decoded;
+    }
+
+    @Test
+    void testStrings_utf8RoundTrip() {
+        for (String value : new String[]{"", "plain", "café", "中文", "emoji 😀", null}) {
+            assertEquals(value, roundTrip(ValueCodec.strings(), value));
+        }
+        assertEquals(6, ValueCodec.strings().sizeOf("plain"));
+    }
+
+    @Test
+    void testStrings_directBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        ValueCodec.strings().write("café", buffer);
+        buffer.flip();
+
+        assertEquals("café", ValueCodec.strings().read(buffer));
+    }
+
+    @Test
+    void testNumbers_varintsAreCompact() {
+        for (int value : new int[]{0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(value, roundTrip(ValueCodec.ints(), value));
+        }
+        for (long value : new long[]{0, -1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(value, roundTrip(ValueCodec.longs(), value));
+        }
+        assertEquals(1, ValueCodec.ints().sizeOf(-64));
+        assertEquals(2, ValueCodec.ints().sizeOf(64));
+        assertEquals(Math.PI, roundTrip(ValueCodec.doubles(), Math.PI));
+        assertEquals(Boolean.TRUE, roundTrip(ValueCodec.booleans(), true));
+    }
+
+    @Test
+    void testBytesAndNullable() {
+        assertArrayEquals(new byte[]{1, 2, 3}, roundTrip(ValueCodec.bytes(), new byte[]{1, 2, 3}));
+
+        ValueCodec<Integer> nullable = ValueCodec.nullable(ValueCodec.ints());
+        assertNull(roundTrip(nullable, null));
+        assertEquals(7, roundTrip(nullable, 7));
+    }
+}
@@ -0,0 +1,127 @@
+package com.anugrahatwork.anukit.io;
+
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedRecordSourceTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws IOException {
+        return Files.write(Files.createTempFile(dir, "data", ".txt"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> strings(MappedRecordSource source) {
+        return source.records().map(MappedRecordSource.Record::toString).collect(Collectors.toList());
+    }
+
+    @Test
+    void testLines_trimCarriageReturnAndKeepEmptyLines() throws IOException {
+        MappedRecordSource source = MappedRecordSource.lines(write("a\r\n\nb c\nlast"));
+
+        assertEquals(Arrays.asList("a", "", "b c", "last"), strings(source));
+        assertEquals(Arrays.asList("a", "b"), strings(MappedRecordSource.lines(write("a\nb\n"))));
+        assertTrue(strings(MappedRecordSource.lines(write(""))).isEmpty());
+    }
+
+    @Test
+    void testSegments_endOnRecordBoundaries() throws IOException {
+        List<String> expected = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            String record = "record-" + i;
+            expected.add(record);
+            content.append(record).append(';');
+        }
+
+        MappedRecordSource source = MappedRecordSource.records(write(content.toString()), (byte) ';', 64);
+
+        assertTrue(source.segmentCount() > 10);
+        assertEquals(expected, strings(source));
+        List<Long> offsets = source.records().map(MappedRecordSource.Record::getOffset).collect(Collectors.toList());
+        assertEquals(0L, offsets.get(0));
+        assertEquals((long) content.indexOf("record-50;"), offsets.get(50));
+    }
+
+    @Test
+    void testRecordLongerThanSegment_fails() throws IOException {
+        Path path = write("short;" + String.join("", Collections.nCopies(100, "x")) + ";tail");
+
+        assertThrows(IOException.class, () -> MappedRecordSource.records(path, (byte) ';', 32));
+    }
+
+    @Test
+    void testParallel_splitsOnRecordBoundaries() throws IOException {
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            expected.add(Integer.toString(i));
+            content.append(i).append('\n');
+        }
+        MappedRecordSource source = MappedRecordSource.records(write(content.toString()), (byte) '\n', 4096);
+
+        Spliterator<MappedRecordSource.Record> suffix = source.spliterator();
+        Spliterator<MappedRecordSource.Record> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertTrue(suffix.tryAdvance(first -> assertEquals('\n', content.charAt((int) first.getOffset() - 1))));
+
+        List<String> parallel = source.records().parallel()
+                .map(MappedRecordSource.Record::toString)
+                .collect(Collectors.toList());
+        assertEquals(expected, parallel);
+    }
+
+    @Test
+    void testMapSafe_errorCarriesOffset() throws IOException {
+        Path path = write("1\n2\nx\n4");
+        MappedRecordSource source = MappedRecordSource.lines(path);
+
+        List<Result<Integer, Exception>> results = source.mapSafe(r -> Integer.parseInt(r.toString()))
+                .collect(Collectors.toList());
+
+        assertEquals(4, results.size());
+        assertEquals(2, results.get(1).unwrapOrThrow());
+        Result<Integer, Exception> failed = results.get(2);
+        assertInstanceOf(NumberFormatException.class, failed.getError());
+        assertEquals("record at offset 4 of " + path, failed.getMessage());
+    }
+
+    @Test
+    void testRecord_bytesWithoutDecoding() throws IOException {
+        MappedRecordSource.Record record = MappedRecordSource.lines(write("id,name\n")).records()
+                .findFirst().orElseThrow(IllegalStateException::new);
+
+        assertEquals(7, record.length());
+        assertEquals((byte) 'i', record.byteAt(0));
+        assertEquals(2, record.indexOf((byte) ',', 0));
+        assertEquals(-1, record.indexOf((byte) ',', 3));
+        assertEquals("name", record.toString(3, 7, StandardCharsets.UTF_8));
+        assertArrayEquals("id,name".getBytes(StandardCharsets.UTF_8), record.getBytes());
+        assertEquals(7, record.asByteBuffer().remaining());
+        assertThrows(IndexOutOfBoundsException.class, () -> record.byteAt(7));
+    }
+
+    @Test
+    void testWrap_feedsResultStreamHolder() throws IOException {
+        MappedRecordSource source = MappedRecordSource.lines(write("1\n2\n3\n"));
+
+        Result<List<Integer>, Exception> parsed = source.wrap().mapSafeFailFast(r -> Integer.parseInt(r.toString()));
+
+        assertEquals(Arrays.asList(1, 2, 3), parsed.unwrapOrThrow());
+    }
+}
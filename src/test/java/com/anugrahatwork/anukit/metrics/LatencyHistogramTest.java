@@ -0,0 +1,43 @@
+package com.anugrahatwork.anukit.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBuckets_coverRangeWithBoundedError() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.lowerBound(index) <= value, "lower bound of " + value);
+            assertTrue(LatencyHistogram.upperBound(index) >= value, "upper bound of " + value);
+            assertTrue(LatencyHistogram.upperBound(index) - LatencyHistogram.lowerBound(index) <= value / 16 + 1,
+                    "bucket width of " + value);
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) histogram.record(i * 1_000L);
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 1e-6);
+        assertEquals(500_000, histogram.getPercentile(0.5), 500_000 / 16.0);
+        assertEquals(990_000, histogram.getPercentile(0.99), 990_000 / 16.0);
+        assertEquals(1_000_000, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    void testEmptyAndNegative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(0.99));
+        assertEquals(0, histogram.getMean());
+
+        histogram.record(-5);
+        assertEquals(0, histogram.getMax());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(2));
+    }
+}
@@ -0,0 +1,100 @@
+package com.anugrahatwork.anukit.metrics;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.Pipe;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+
+    @BeforeEach
+    void enable() {
+        Metrics.reset();
+        Metrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void disable() {
+        Metrics.setEnabled(false);
+        Metrics.reset();
+    }
+
+    @Test
+    void testTryWrap_countsOutcomesAndErrorTypes() {
+        AnuKit.tryWrap("parse", () -> Integer.parseInt("1"));
+        AnuKit.tryWrap("parse", () -> Integer.parseInt("x"));
+        AnuKit.tryWrap("parse", () -> {
+            throw new IOException("io");
+        });
+
+        OperationSnapshot snapshot = Metrics.operation("parse").snapshot();
+        assertEquals(1, snapshot.getOkCount());
+        assertEquals(2, snapshot.getErrCount());
+        assertEquals(1L, snapshot.getErrorsByType().get(NumberFormatException.class.getName()));
+        assertEquals(1L, snapshot.getErrorsByType().get(IOException.class.getName()));
+        assertEquals(3, Metrics.operation("parse").getLatency().getCount());
+    }
+
+    @Test
+    void testInstrumentedStages_inPipe() {
+        Pipe<Integer> pipe = Pipe.of("42")
+                .map(Metrics.instrumentTransformer("parse", Integer::parseInt))
+                .then(Metrics.instrumentModifier("double", n -> n * 2));
+
+        assertEquals(84, pipe.getResult().unwrapOrThrow());
+        assertEquals(1, Metrics.operation("parse").snapshot().getOkCount());
+        assertEquals(1, Metrics.operation("double").snapshot().getOkCount());
+    }
+
+    @Test
+    void testRecord_countsNone() {
+        Metrics.record("lookup", Result.none(), 10);
+
+        assertEquals(1, Metrics.operation("lookup").snapshot().getNoneCount());
+    }
+
+    @Test
+    void testDisabled_recordsNothing() throws Exception {
+        Metrics.setEnabled(false);
+
+        AnuKit.tryWrap("quiet", () -> "x");
+        Metrics.instrumentTransformer("quiet", (String s) -> s).apply("y");
+
+        assertTrue(Metrics.snapshot().isEmpty());
+    }
+
+    @Test
+    void testExport_toSink() {
+        AnuKit.tryWrap("b", () -> 1);
+        AnuKit.tryWrap("a", () -> 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Result<Void, Exception> exported = Metrics.export(MetricsSink.printTo(new PrintStream(out, true)));
+
+        assertTrue(exported.isOk());
+        String text = out.toString();
+        assertTrue(text.startsWith("a ok=1 err=0 none=0"), text);
+        assertTrue(text.contains("\nb ok=1"), text);
+    }
+
+    @Test
+    void testExport_failingSinkIsErr() {
+        List<OperationSnapshot> snapshots = Metrics.snapshot();
+        assertTrue(snapshots.isEmpty());
+
+        Result<Void, Exception> exported = Metrics.export(s -> {
+            throw new IOException("disk full");
+        });
+
+        assertTrue(exported.isErr());
+    }
+}
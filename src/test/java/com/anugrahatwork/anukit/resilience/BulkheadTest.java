@@ -0,0 +1,119 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "bulkhead-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @AfterAll
+    static void shutdown() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testCall_releasesPermit() {
+        Bulkhead bulkhead = Bulkhead.of(1);
+
+        assertEquals("a", AnuKit.tryWrap(() -> "a", bulkhead).unwrapOrThrow());
+        assertTrue(AnuKit.tryWrap(() -> {
+            throw new IllegalStateException("b");
+        }, bulkhead).isErr());
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void testFull_rejectsImmediatelyWithoutRunning() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(2);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+        CompletableFuture<Result<Integer, Exception>> first = bulkhead.callAsync(() -> {
+            release.await();
+            return ran.incrementAndGet();
+        }, EXECUTOR);
+        CompletableFuture<Result<Integer, Exception>> second = bulkhead.callAsync(() -> {
+            release.await();
+            return ran.incrementAndGet();
+        }, EXECUTOR);
+
+        CompletableFuture<Result<Integer, Exception>> third = bulkhead.callAsync(ran::incrementAndGet, EXECUTOR);
+
+        assertTrue(third.isDone());
+        assertInstanceOf(CallNotPermittedException.class, third.get().getError());
+        release.countDown();
+        assertTrue(first.get(5, TimeUnit.SECONDS).isOk());
+        assertTrue(second.get(5, TimeUnit.SECONDS).isOk());
+        assertEquals(2, ran.get());
+        assertEquals(2, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void testMaxWait_getsPermitReleasedInTime() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(1).withMaxWait(5, TimeUnit.SECONDS);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Result<String, Exception>> holder = bulkhead.callAsync(() -> {
+            started.countDown();
+            Thread.sleep(50);
+            return "first";
+        }, EXECUTOR);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals("second", bulkhead.call(() -> "second").unwrapOrThrow());
+        assertEquals("first", holder.get().unwrapOrThrow());
+    }
+
+    @Test
+    void testMaxWait_rejectsAfterTimeout() {
+        Bulkhead bulkhead = Bulkhead.of(1).withMaxWait(20, TimeUnit.MILLISECONDS);
+        assertTrue(bulkhead.tryAcquirePermission());
+
+        long start = System.nanoTime();
+        Result<String, Exception> result = bulkhead.call(() -> "late");
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertInstanceOf(CallNotPermittedException.class, result.getError());
+        bulkhead.release();
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void testPartitions_areIndependent() {
+        Bulkhead bulkhead = Bulkhead.of(1);
+        Bulkhead tenantA = bulkhead.partition("a");
+        assertTrue(tenantA.tryAcquirePermission());
+
+        assertSame(tenantA, bulkhead.partition("a"));
+        assertEquals("a", tenantA.getName());
+        assertInstanceOf(CallNotPermittedException.class, tenantA.call(() -> 1).getError());
+        assertEquals(1, bulkhead.partition("b").call(() -> 1).unwrapOrThrow());
+    }
+
+    @Test
+    void testRejectedByExecutor_releasesPermit() throws Exception {
+        Bulkhead bulkhead = Bulkhead.of(1);
+
+        Result<Integer, Exception> result = bulkhead.callAsync(() -> 1, r -> {
+            throw new RejectedExecutionException("full");
+        }).get();
+
+        assertInstanceOf(RejectedExecutionException.class, result.getError());
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+}
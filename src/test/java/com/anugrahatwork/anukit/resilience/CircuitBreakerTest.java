@@ -0,0 +1,175 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static CircuitBreaker breaker() {
+        return CircuitBreaker.failureRate(0.5)
+                .withMinimumCalls(4)
+                .withOpenDuration(50, TimeUnit.MILLISECONDS);
+    }
+
+    private static void fail(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.call(() -> {
+                throw new IOException("down");
+            });
+        }
+    }
+
+    @Test
+    void testClosed_runsSupplier() {
+        CircuitBreaker breaker = breaker();
+
+        Result<String, Exception> result = AnuKit.tryWrap(() -> "ok", breaker);
+
+        assertEquals("ok", result.unwrapOrThrow());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testOpens_afterFailureRateReached() {
+        CircuitBreaker breaker = breaker();
+        breaker.call(() -> "ok");
+        fail(breaker, 2);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        fail(breaker, 1);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(0.75, breaker.getFailureRate(), 1e-9);
+    }
+
+    @Test
+    void testOpen_rejectsWithoutRunning() {
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        AtomicInteger calls = new AtomicInteger();
+
+        Result<Integer, Exception> result = breaker.call(calls::incrementAndGet);
+
+        assertTrue(result.getError() instanceof CallNotPermittedException);
+        assertEquals(0, result.getError().getStackTrace().length);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void testHalfOpen_probeSuccessCloses() throws Exception {
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        Thread.sleep(80);
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+    }
+
+    @Test
+    void testHalfOpen_probeFailureReopens() throws Exception {
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        Thread.sleep(80);
+
+        fail(breaker, 1);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void testHalfOpen_probeThrowingErrorReopens() throws Exception {
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        Thread.sleep(80);
+
+        assertThrows(AssertionError.class, () -> breaker.call(() -> {
+            throw new AssertionError("broken");
+        }));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testHalfOpen_rejectedProbeReopens() throws Exception {
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        Thread.sleep(80);
+
+        Result<String, Exception> result = breaker.<String>callAsync(() -> "ok", command -> {
+            throw new RejectedExecutionException("saturated");
+        }).get(5, TimeUnit.SECONDS);
+
+        assertInstanceOf(RejectedExecutionException.class, result.getError());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testRecordIf_ignoresOtherExceptions() {
+        CircuitBreaker breaker = breaker().recordIf(e -> e instanceof IOException);
+
+        for (int i = 0; i < 10; i++) {
+            breaker.call(() -> {
+                throw new IllegalArgumentException("bad input");
+            });
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testCallAsync_rejectedWithoutSubmitting() throws Exception {
+        CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+
+        Result<String, Exception> result = breaker.<String>callAsync(() -> "ok", command -> {
+            throw new AssertionError("should not submit");
+        }).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.getError() instanceof CallNotPermittedException);
+    }
+
+    @Test
+    void testWindow_forgetsOldFailures() throws Exception {
+        CircuitBreaker breaker = breaker().withWindow(50, TimeUnit.MILLISECONDS);
+        fail(breaker, 3);
+        Thread.sleep(80);
+
+        fail(breaker, 1);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testWindow_countsSuccessesAfterQuietPeriod() throws Exception {
+        CircuitBreaker breaker = breaker().withWindow(50, TimeUnit.MILLISECONDS);
+        breaker.call(() -> "ok");
+        Thread.sleep(80);
+        for (int i = 0; i < 10; i++) breaker.call(() -> "ok");
+
+        fail(breaker, 4);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(4 / 14.0, breaker.getFailureRate(), 1e-9);
+    }
+
+    @Test
+    void testFactories_rejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.failureRate(0));
+        assertThrows(IllegalArgumentException.class, () -> breaker().withMinimumCalls(0));
+        assertThrows(IllegalArgumentException.class, () -> breaker().withProbes(0));
+    }
+}
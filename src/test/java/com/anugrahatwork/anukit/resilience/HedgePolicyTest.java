@@ -0,0 +1,169 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgePolicyTest {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(1, r -> {
+        Thread thread = new Thread(r, "hedge-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "hedge-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @AfterAll
+    static void shutdown() {
+        SCHEDULER.shutdownNow();
+        POOL.shutdownNow();
+    }
+
+    @Test
+    void testCallAsync_fastAttemptDoesNotHedge() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, Exception> result = HedgePolicy.fixedDelay(200, TimeUnit.MILLISECONDS)
+                .callAsync(() -> {
+                    attempts.incrementAndGet();
+                    return "fast";
+                }, SCHEDULER, POOL)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("fast", result.unwrapOrThrow());
+        Thread.sleep(300);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testCallAsync_slowAttemptIsHedgedAndCancelled() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Result<String, Exception> result = HedgePolicy.fixedDelay(20, TimeUnit.MILLISECONDS)
+                .callAsync(() -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        try {
+                            Thread.sleep(10_000);
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            throw e;
+                        }
+                        return "slow";
+                    }
+                    return "hedge";
+                }, SCHEDULER, POOL)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("hedge", result.unwrapOrThrow());
+        assertEquals(2, attempts.get());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCallAsync_failureStartsNextAttemptImmediately() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, Exception> result = HedgePolicy.fixedDelay(10, TimeUnit.SECONDS)
+                .withMaxAttempts(3)
+                .callAsync(() -> {
+                    if (attempts.incrementAndGet() < 3) throw new IOException("down");
+                    return "third";
+                }, SCHEDULER, POOL)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("third", result.unwrapOrThrow());
+    }
+
+    @Test
+    void testCallAsync_allAttemptsFail() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, Exception> result = AnuKit.<String>tryWrapAsync(() -> {
+            throw new IOException("down #" + attempts.incrementAndGet());
+        }, HedgePolicy.fixedDelay(1, TimeUnit.MILLISECONDS).withMaxAttempts(3), SCHEDULER)
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isErr());
+        AllAttemptsFailedException error = (AllAttemptsFailedException) result.getError();
+        assertEquals(3, error.getErrors().size());
+        assertSame(error.getErrors().get(0), error.getCause());
+    }
+
+    @Test
+    void testPercentile_learnsDelay() throws Exception {
+        HedgePolicy policy = HedgePolicy.percentile(0.9, 5, TimeUnit.SECONDS);
+        assertEquals(5, policy.getDelay(TimeUnit.SECONDS));
+
+        for (int i = 0; i < 64; i++) {
+            policy.callAsync(() -> "x", SCHEDULER, Runnable::run).get(5, TimeUnit.SECONDS);
+        }
+
+        assertTrue(policy.getDelay(TimeUnit.MILLISECONDS) < 1000);
+    }
+
+    @Test
+    void testTryWrapFirst_firstSuccessWins() throws Exception {
+        Result<String, Exception> result = AnuKit.<String>tryWrapFirst(Arrays.asList(
+                () -> {
+                    Thread.sleep(10_000);
+                    return "slow";
+                },
+                () -> {
+                    throw new IOException("broken");
+                },
+                () -> "fast"), POOL).get(5, TimeUnit.SECONDS);
+
+        assertEquals("fast", result.unwrapOrThrow());
+    }
+
+    @Test
+    void testRace_allFail() throws Exception {
+        Result<String, Exception> result = HedgePolicy.<String>race(Arrays.asList(
+                () -> {
+                    throw new IOException("a");
+                },
+                () -> {
+                    throw new IOException("b");
+                }), POOL).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isErr());
+        assertEquals(2, ((AllAttemptsFailedException) result.getError()).getErrors().size());
+    }
+
+    @Test
+    void testRace_errorIsReportedAsFailure() throws Exception {
+        Result<String, Exception> result = HedgePolicy.<String>race(Arrays.asList(() -> {
+            throw new AssertionError("broken");
+        }), POOL).get(5, TimeUnit.SECONDS);
+
+        Exception error = ((AllAttemptsFailedException) result.getError()).getErrors().get(0);
+        assertInstanceOf(ExecutionException.class, error);
+        assertInstanceOf(AssertionError.class, error.getCause());
+    }
+
+    @Test
+    void testFactories_rejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> HedgePolicy.fixedDelay(-1, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> HedgePolicy.percentile(1.5, 1, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> HedgePolicy.fixedDelay(1, TimeUnit.MILLISECONDS).withMaxAttempts(0));
+    }
+}
@@ -0,0 +1,91 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void testBurst_thenRejects() {
+        RateLimiter limiter = RateLimiter.of(3, 1, TimeUnit.HOURS);
+        AtomicInteger ran = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(AnuKit.tryWrap(ran::incrementAndGet, limiter).isOk());
+        }
+        Result<Integer, Exception> rejected = AnuKit.tryWrap(ran::incrementAndGet, limiter);
+
+        assertInstanceOf(CallNotPermittedException.class, rejected.getError());
+        assertEquals(3, ran.get());
+        assertEquals(0, limiter.getAvailablePermits());
+    }
+
+    @Test
+    void testRefill_afterInterval() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, 20, TimeUnit.MILLISECONDS);
+        assertTrue(limiter.tryAcquirePermission());
+        assertFalse(limiter.tryAcquirePermission());
+
+        Thread.sleep(40);
+
+        assertEquals(1, limiter.getAvailablePermits());
+        assertTrue(limiter.tryAcquirePermission());
+    }
+
+    @Test
+    void testMaxWait_waitsForNextPermit() {
+        RateLimiter limiter = RateLimiter.of(1, 30, TimeUnit.MILLISECONDS).withMaxWait(1, TimeUnit.SECONDS);
+        assertTrue(limiter.tryAcquirePermission());
+
+        long start = System.nanoTime();
+        assertEquals("next", limiter.call(() -> "next").unwrapOrThrow());
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void testMaxWait_rejectsWhenPermitIsDueTooLate() {
+        RateLimiter limiter = RateLimiter.of(1, 1, TimeUnit.HOURS).withMaxWait(10, TimeUnit.MILLISECONDS);
+        assertTrue(limiter.tryAcquirePermission());
+
+        long start = System.nanoTime();
+        assertInstanceOf(CallNotPermittedException.class, limiter.call(() -> 1).getError());
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void testWithBurst_andPartitions() {
+        RateLimiter limiter = RateLimiter.perSecond(1).withBurst(2);
+        RateLimiter tenantA = limiter.partition("a");
+
+        assertTrue(tenantA.tryAcquirePermission());
+        assertTrue(tenantA.tryAcquirePermission());
+        assertFalse(tenantA.tryAcquirePermission());
+        assertSame(tenantA, limiter.partition("a"));
+        assertEquals(2, limiter.partition("b").getAvailablePermits());
+    }
+
+    @Test
+    void testConcurrentCallers_neverExceedBurst() throws Exception {
+        RateLimiter limiter = RateLimiter.of(100, 1, TimeUnit.HOURS);
+        AtomicInteger granted = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    if (limiter.tryAcquirePermission()) granted.incrementAndGet();
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(100, granted.get());
+    }
+}
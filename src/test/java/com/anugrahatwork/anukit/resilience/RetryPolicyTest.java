@@ -0,0 +1,163 @@
+package com.anugrahatwork.anukit.resilience;
+
+import com.anugrahatwork.anukit.AnuKit;
+import com.anugrahatwork.anukit.result.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(1, r -> {
+        Thread thread = new Thread(r, "retry-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final RetryPolicy FAST = RetryPolicy.maxAttempts(4).withBackoff(1, 5, TimeUnit.MILLISECONDS);
+
+    @AfterAll
+    static void shutdown() {
+        SCHEDULER.shutdownNow();
+    }
+
+    @Test
+    void testCall_succeedsAfterFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, Exception> result = FAST.call(() -> {
+            if (attempts.incrementAndGet() < 3) throw new IOException("flaky");
+            return "ok";
+        });
+
+        assertEquals("ok", result.unwrapOrThrow());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testCall_givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, Exception> result = AnuKit.tryWrap(() -> {
+            throw new IOException("down #" + attempts.incrementAndGet());
+        }, FAST);
+
+        assertTrue(result.isErr());
+        assertEquals("down #4", result.getErrorMessage());
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    void testRetryOn_stopsOnOtherExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, Exception> result = FAST.retryOn(IOException.class).call(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("not retryable");
+        });
+
+        assertInstanceOf(IllegalArgumentException.class, result.getError());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testRetryIf_throwingPredicateStops() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, Exception> result = FAST.retryIf(e -> {
+            throw new IllegalStateException("predicate broke");
+        }).call(() -> {
+            attempts.incrementAndGet();
+            throw new IOException("io");
+        });
+
+        assertEquals("io", result.getErrorMessage());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testDelay_exponentialCappedAndJittered() {
+        RetryPolicy noJitter = RetryPolicy.maxAttempts(10)
+                .withBackoff(100, 1_000, TimeUnit.NANOSECONDS)
+                .withJitter(0);
+
+        assertEquals(100, noJitter.delayNanos(1));
+        assertEquals(200, noJitter.delayNanos(2));
+        assertEquals(800, noJitter.delayNanos(4));
+        assertEquals(1_000, noJitter.delayNanos(5));
+        assertEquals(1_000, noJitter.delayNanos(60));
+
+        RetryPolicy fullJitter = noJitter.withJitter(1.0);
+        for (int i = 0; i < 100; i++) {
+            long delay = fullJitter.delayNanos(3);
+            assertTrue(delay >= 0 && delay <= 400, "delay " + delay);
+        }
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> FAST.withBackoff(10, 5, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> FAST.withMultiplier(0.5));
+        assertThrows(IllegalArgumentException.class, () -> FAST.withJitter(1.5));
+    }
+
+    @Test
+    void testCallAsync_retriesWithoutBlocking() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<Result<String, Exception>> future = FAST.callAsync(() -> {
+            if (attempts.incrementAndGet() < 3) throw new IOException("flaky");
+            return Thread.currentThread().getName();
+        }, SCHEDULER);
+
+        assertEquals("retry-test", future.get(5, TimeUnit.SECONDS).unwrapOrThrow());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testTryWrapAsync_withPolicyGivesUp() throws Exception {
+        Result<String, Exception> result = AnuKit.<String>tryWrapAsync(() -> {
+            throw new IOException("always");
+        }, FAST, SCHEDULER).get(5, TimeUnit.SECONDS);
+
+        assertEquals("always", result.getErrorMessage());
+    }
+
+    @Test
+    void testCallAsync_errorCompletesFuture() {
+        CompletableFuture<Result<String, Exception>> future = FAST.callAsync(() -> {
+            throw new AssertionError("broken");
+        }, SCHEDULER);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, thrown.getCause());
+    }
+
+    @Test
+    void testCallAsync_cancelStopsAttempts() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy slow = RetryPolicy.maxAttempts(100).withBackoff(50, 50, TimeUnit.MILLISECONDS);
+
+        CompletableFuture<Result<String, Exception>> future = slow.callAsync(() -> {
+            attempts.incrementAndGet();
+            throw new IOException("down");
+        }, SCHEDULER);
+        Thread.sleep(20);
+        future.cancel(false);
+        int seen = attempts.get();
+        Thread.sleep(150);
+
+        assertTrue(future.isCancelled());
+        assertEquals(seen, attempts.get());
+    }
+}
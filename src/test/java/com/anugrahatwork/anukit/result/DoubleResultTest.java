@@ -0,0 +1,71 @@
+package com.anugrahatwork.anukit.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleResultTest {
+
+    @Test
+    void testOkResult() {
+        DoubleResult<Exception> result = DoubleResult.ok(0.5);
+
+        assertTrue(result.isOk());
+        assertFalse(result.isErr());
+        assertFalse(result.isNone());
+
+        assertEquals(OptionalDouble.of(0.5), result.Ok());
+        assertEquals(0.5, result.unwrapOrThrow());
+        assertEquals(0.5, result.unwrapOr(-1));
+    }
+
+    @Test
+    void testErrResult() {
+        Exception error = new IOException("File error");
+        DoubleResult<Exception> result = DoubleResult.err(error);
+
+        assertTrue(result.isErr());
+        assertEquals(OptionalDouble.empty(), result.Ok());
+        assertEquals(Optional.of(error), result.Err());
+        assertEquals("File error", result.getErrorMessage());
+        assertEquals(-1, result.unwrapOr(-1));
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, result::unwrapOrThrow);
+        assertSame(error, thrown.getCause());
+
+        RuntimeException custom = assertThrows(RuntimeException.class, () -> result.unwrapOrThrow("Fail reason"));
+        assertEquals("Fail reason", custom.getMessage());
+    }
+
+    @Test
+    void testOnError() {
+        AtomicBoolean handled = new AtomicBoolean(false);
+        DoubleResult.<String>err("bad").onError(e -> handled.set(true));
+        DoubleResult.<String>ok(1).onError(e -> fail("should not be called"));
+
+        assertTrue(handled.get());
+    }
+
+    @Test
+    void testNoneResult() {
+        DoubleResult<String> result = DoubleResult.none();
+
+        assertTrue(result.isNone());
+        assertSame(DoubleResult.none(), result);
+        assertEquals("result is uninitialized", result.getErrorMessage());
+        assertThrows(IllegalStateException.class, result::unwrapOrThrow);
+        assertThrows(IllegalStateException.class, result::getError);
+    }
+
+    @Test
+    void testToResult() {
+        assertEquals(42.0, DoubleResult.<String>ok(42.0).toResult().unwrapOrThrow());
+        assertEquals("bad", DoubleResult.<String>err("bad").toResult().getError());
+        assertTrue(DoubleResult.<String>none().toResult().isNone());
+    }
+}
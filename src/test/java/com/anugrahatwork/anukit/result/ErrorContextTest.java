@@ -0,0 +1,57 @@
+package com.anugrahatwork.anukit.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorContextTest {
+
+    @Test
+    void testOf_formatsPlaceholders() {
+        assertEquals("load user 42 from db", ErrorContext.of("load user {} from {}", 42, "db").toString());
+        assertEquals("no args {}", ErrorContext.of("no args {}").toString());
+        assertEquals("extra 1", ErrorContext.of("extra {}", 1, 2).toString());
+    }
+
+    @Test
+    void testStage_describesIndexAndName() {
+        assertEquals("stage 2 (parse)", ErrorContext.stage(2, "parse").toString());
+        assertEquals("stage 0", ErrorContext.stage(0, null).toString());
+    }
+
+    @Test
+    void testChain_rendersOutermostFirst() {
+        Result<String, Exception> result = Result.<String, Exception>err(new IllegalStateException("boom"))
+                .withStage(1, "parse")
+                .withContext("request {}", "abc");
+
+        ErrorContext context = result.getContext();
+        assertEquals("request abc: stage 1 (parse)", context.toString());
+        assertEquals(2, context.frames().size());
+        assertEquals(1, context.getInner().getStage());
+        assertEquals("request {}", context.getOperation());
+        assertEquals(Arrays.<Object>asList("abc"), context.getArguments());
+        assertEquals("request abc", context.describe());
+    }
+
+    @Test
+    void testArguments_formattedOnlyWhenRendered() {
+        AtomicInteger renders = new AtomicInteger();
+        Object lazy = new Object() {
+            @Override
+            public String toString() {
+                return "arg#" + renders.incrementAndGet();
+            }
+        };
+
+        ErrorContext context = ErrorContext.of("value {}", lazy);
+        assertEquals(0, renders.get());
+
+        assertEquals("value arg#1", context.toString());
+        assertEquals("value arg#1", context.toString());
+        assertEquals(1, renders.get());
+    }
+}
@@ -0,0 +1,80 @@
+package com.anugrahatwork.anukit.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntResultTest {
+
+    @Test
+    void testOkResult() {
+        IntResult<Exception> result = IntResult.ok(1000);
+
+        assertTrue(result.isOk());
+        assertFalse(result.isErr());
+        assertFalse(result.isNone());
+
+        assertEquals(OptionalInt.of(1000), result.Ok());
+        assertEquals(1000, result.unwrapOrThrow());
+        assertEquals(1000, result.unwrapOr(-1));
+    }
+
+    @Test
+    void testSmallValuesAreCached() {
+        assertSame(IntResult.ok(0), IntResult.ok(0));
+        assertSame(IntResult.ok(-128), IntResult.ok(-128));
+        assertSame(IntResult.ok(127), IntResult.ok(127));
+        assertEquals(-128, IntResult.ok(-128).unwrapOrThrow());
+        assertEquals(128, IntResult.ok(128).unwrapOrThrow());
+    }
+
+    @Test
+    void testErrResult() {
+        Exception error = new IOException("File error");
+        IntResult<Exception> result = IntResult.err(error);
+
+        assertTrue(result.isErr());
+        assertEquals(OptionalInt.empty(), result.Ok());
+        assertEquals(Optional.of(error), result.Err());
+        assertEquals("File error", result.getErrorMessage());
+        assertEquals(-1, result.unwrapOr(-1));
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, result::unwrapOrThrow);
+        assertSame(error, thrown.getCause());
+
+        RuntimeException custom = assertThrows(RuntimeException.class, () -> result.unwrapOrThrow("Fail reason"));
+        assertEquals("Fail reason", custom.getMessage());
+    }
+
+    @Test
+    void testOnError() {
+        AtomicBoolean handled = new AtomicBoolean(false);
+        IntResult.<String>err("bad").onError(e -> handled.set(true));
+        IntResult.<String>ok(1).onError(e -> fail("should not be called"));
+
+        assertTrue(handled.get());
+    }
+
+    @Test
+    void testNoneResult() {
+        IntResult<String> result = IntResult.none();
+
+        assertTrue(result.isNone());
+        assertSame(IntResult.none(), result);
+        assertEquals("result is uninitialized", result.getErrorMessage());
+        assertThrows(IllegalStateException.class, result::unwrapOrThrow);
+        assertThrows(IllegalStateException.class, result::getError);
+    }
+
+    @Test
+    void testToResult() {
+        assertEquals(42, IntResult.<String>ok(42).toResult().unwrapOrThrow());
+        assertEquals("bad", IntResult.<String>err("bad").toResult().getError());
+        assertTrue(IntResult.<String>none().toResult().isNone());
+    }
+}
@@ -0,0 +1,80 @@
+package com.anugrahatwork.anukit.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongResultTest {
+
+    @Test
+    void testOkResult() {
+        LongResult<Exception> result = LongResult.ok(10_000_000_000L);
+
+        assertTrue(result.isOk());
+        assertFalse(result.isErr());
+        assertFalse(result.isNone());
+
+        assertEquals(OptionalLong.of(10_000_000_000L), result.Ok());
+        assertEquals(10_000_000_000L, result.unwrapOrThrow());
+        assertEquals(10_000_000_000L, result.unwrapOr(-1));
+    }
+
+    @Test
+    void testSmallValuesAreCached() {
+        assertSame(LongResult.ok(0), LongResult.ok(0));
+        assertSame(LongResult.ok(-128), LongResult.ok(-128));
+        assertSame(LongResult.ok(127), LongResult.ok(127));
+        assertEquals(-128, LongResult.ok(-128).unwrapOrThrow());
+        assertEquals(128, LongResult.ok(128).unwrapOrThrow());
+    }
+
+    @Test
+    void testErrResult() {
+        Exception error = new IOException("File error");
+        LongResult<Exception> result = LongResult.err(error);
+
+        assertTrue(result.isErr());
+        assertEquals(OptionalLong.empty(), result.Ok());
+        assertEquals(Optional.of(error), result.Err());
+        assertEquals("File error", result.getErrorMessage());
+        assertEquals(-1, result.unwrapOr(-1));
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, result::unwrapOrThrow);
+        assertSame(error, thrown.getCause());
+
+        RuntimeException custom = assertThrows(RuntimeException.class, () -> result.unwrapOrThrow("Fail reason"));
+        assertEquals("Fail reason", custom.getMessage());
+    }
+
+    @Test
+    void testOnError() {
+        AtomicBoolean handled = new AtomicBoolean(false);
+        LongResult.<String>err("bad").onError(e -> handled.set(true));
+        LongResult.<String>ok(1).onError(e -> fail("should not be called"));
+
+        assertTrue(handled.get());
+    }
+
+    @Test
+    void testNoneResult() {
+        LongResult<String> result = LongResult.none();
+
+        assertTrue(result.isNone());
+        assertSame(LongResult.none(), result);
+        assertEquals("result is uninitialized", result.getErrorMessage());
+        assertThrows(IllegalStateException.class, result::unwrapOrThrow);
+        assertThrows(IllegalStateException.class, result::getError);
+    }
+
+    @Test
+    void testToResult() {
+        assertEquals(42, LongResult.<String>ok(42).toResult().unwrapOrThrow());
+        assertEquals("bad", LongResult.<String>err("bad").toResult().getError());
+        assertTrue(LongResult.<String>none().toResult().isNone());
+    }
+}
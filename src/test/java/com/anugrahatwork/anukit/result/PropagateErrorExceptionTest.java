@@ -65,4 +65,33 @@ class PropagateErrorExceptionTest {
         assertEquals("CustomError#42", ex.getMessage());
         assertSame(errObj, ex.getError());
     }
+
+    @Test
+    void testConstructor_withStackTraceMode() {
+        Throwable cause = new IllegalArgumentException("bad argument");
+
+        PropagateErrorException stackless = new PropagateErrorException("wrapped", cause, "err", StackTraceMode.NONE);
+        PropagateErrorException full = new PropagateErrorException("wrapped", cause, "err", StackTraceMode.FULL);
+
+        assertEquals(0, stackless.getStackTrace().length);
+        assertTrue(full.getStackTrace().length > 0);
+        assertSame(cause, stackless.getCause());
+        assertEquals("err", stackless.getError());
+    }
+
+    @Test
+    void testInitCause_allowedWhenConstructedWithoutCause() {
+        Throwable cause = new IllegalArgumentException("bad argument");
+        PropagateErrorException ex = new PropagateErrorException("custom message", "internal error");
+        PropagateErrorException stackless = new PropagateErrorException("message", "error", StackTraceMode.NONE);
+
+        assertNull(ex.getCause());
+        assertSame(ex, ex.initCause(cause));
+        assertSame(cause, ex.getCause());
+        assertThrows(IllegalStateException.class, () -> ex.initCause(cause));
+        assertSame(cause, stackless.initCause(cause).getCause());
+        assertEquals(0, stackless.getStackTrace().length);
+        assertThrows(IllegalStateException.class,
+                () -> new PropagateErrorException("wrapped", cause, "error").initCause(cause));
+    }
 }
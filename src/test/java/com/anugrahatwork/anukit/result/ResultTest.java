@@ -39,6 +39,8 @@ class ResultTest {
 
         RuntimeException thrown = assertThrows(RuntimeException.class, result::unwrapOrThrow);
         assertEquals("Error occurred", thrown.getMessage());
+        assertSame(error, thrown.getCause());
+        assertSame(error, ((PropagateErrorException) thrown).getError());
     }
 
     @Test
@@ -102,4 +104,71 @@ class ResultTest {
         Result<String, String> result = Result.err("Simple error");
         assertEquals("Simple error", result.getErrorMessage());
     }
+
+    @Test
+    void testIntercept_returnsNewInstance() {
+        Result<String, String> original = Result.err("Original error");
+        Result<String, String> intercepted = original.intercept("context");
+
+        assertNotSame(original, intercepted);
+        assertNull(original.getMessage());
+        assertEquals("context", intercepted.getMessage());
+        assertTrue(intercepted.isErr());
+        assertEquals("Original error", intercepted.getError());
+    }
+
+    @Test
+    void testUnwrapOrThrowWithMessage_doesNotMutate() {
+        Result<String, String> result = Result.err("bad", "original");
+
+        assertThrows(RuntimeException.class, () -> result.unwrapOrThrow("other"));
+        assertEquals("original", result.getMessage());
+    }
+
+    @Test
+    void testCachedInstances() {
+        assertSame(Result.none(), Result.none());
+        assertSame(Result.ok(null), Result.ok(null));
+        assertSame(Result.ok(Boolean.TRUE), Result.ok(true));
+        assertSame(Result.ok(Boolean.FALSE), Result.ok(false));
+        assertNotSame(Result.ok(true), Result.ok(false));
+
+        assertTrue(Result.<Boolean, String>ok(true).unwrapOrThrow());
+        assertFalse(Result.<Boolean, String>ok(false).unwrapOrThrow());
+        assertTrue(Result.ok(null).isOk());
+    }
+
+    @Test
+    void testCachedNone_interceptDoesNotLeak() {
+        Result<String, String> intercepted = Result.<String, String>none().intercept("scoped");
+
+        assertSame(Result.none(), intercepted);
+        assertNull(Result.none().getMessage());
+    }
+
+    @Test
+    void testWithContext_okPathIsUnchanged() {
+        Result<String, Exception> ok = Result.ok("value");
+
+        assertSame(ok, ok.withContext("load {}", 1).withStage(0, "parse").intercept("outer"));
+        assertNull(ok.getContext());
+    }
+
+    @Test
+    void testIntercept_keepsEarlierContext() {
+        Result<String, String> result = Result.<String, String>err("bad", "inner")
+                .withContext("middle {}", 2)
+                .intercept("outer");
+
+        assertEquals("outer: middle 2: inner", result.getMessage());
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> result.unwrapOrThrow("unwrap"));
+        assertEquals("unwrap: outer: middle 2: inner: bad", thrown.getMessage());
+    }
+
+    @Test
+    void testWithContext_nullVarargsArray() {
+        Result<String, String> result = Result.<String, String>err("bad").withContext("user {}", (Object[]) null);
+
+        assertEquals("user null", result.getMessage());
+    }
 }
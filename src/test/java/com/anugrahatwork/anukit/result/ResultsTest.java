@@ -0,0 +1,197 @@
+package com.anugrahatwork.anukit.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultsTest {
+
+    // ====== Collectors ======
+
+    @Test
+    void testPartitioning_singlePass() {
+        Partition<Integer, String> partition = Stream.<Result<Integer, String>>of(
+                        Result.ok(1), Result.err("a"), Result.none(), Result.ok(2), Result.err("b"))
+                .collect(Results.partitioning());
+
+        assertEquals(Arrays.asList(1, 2), partition.getOks());
+        assertEquals(Arrays.asList("a", "b"), partition.getErrors());
+        assertTrue(partition.hasErrors());
+        assertFalse(partition.isTruncated());
+    }
+
+    @Test
+    void testPartitioning_parallelKeepsOrder() {
+        Partition<Integer, String> partition = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> i % 7 == 0 ? Result.<Integer, String>err("e" + i) : Result.<Integer, String>ok(i))
+                .collect(Results.partitioning(10_000));
+
+        assertEquals(10_000 - 1_429, partition.getOks().size());
+        assertEquals(1_429, partition.getErrors().size());
+        assertEquals(1, partition.getOks().get(0));
+        assertEquals("e7", partition.getErrors().get(1));
+    }
+
+    // ====== Traversal ======
+
+    @Test
+    void testTraverse_allOk() {
+        Result<List<Integer>, Exception> result = Results.traverse(Arrays.asList("1", "2", "3").iterator(), Integer::parseInt);
+
+        assertEquals(Arrays.asList(1, 2, 3), result.unwrapOrThrow());
+    }
+
+    @Test
+    void testTraverse_stopsPullingAtFirstError() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<String> source = counting(Arrays.asList("1", "x", "3", "4"), pulled);
+
+        Result<List<Integer>, Exception> result = Results.traverse(source, Integer::parseInt);
+
+        assertTrue(result.isErr());
+        assertInstanceOf(NumberFormatException.class, result.getError());
+        assertEquals(2, pulled.get());
+    }
+
+    @Test
+    void testTraverseUntilErrors() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<String> source = counting(Arrays.asList("1", "x", "2", "y", "3", "z"), pulled);
+
+        Partition<Integer, Exception> partition = Results.traverseUntilErrors(source, Integer::parseInt, 2);
+
+        assertEquals(Arrays.asList(1, 2), partition.getOks());
+        assertEquals(2, partition.getErrors().size());
+        assertTrue(partition.isTruncated());
+        assertEquals(4, pulled.get());
+    }
+
+    @Test
+    void testTraverseUntilErrors_limitNotReached() {
+        Partition<Integer, Exception> partition = Results.traverseUntilErrors(
+                Arrays.asList("1", "x").iterator(), Integer::parseInt, 5);
+
+        assertFalse(partition.isTruncated());
+        assertEquals(Collections.singletonList(1), partition.getOks());
+        assertThrows(IllegalArgumentException.class,
+                () -> Results.traverseUntilErrors(Collections.<String>emptyIterator(), Integer::parseInt, 0));
+    }
+
+    @Test
+    void testTraverseCollection_stopsAtFirstError() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<List<Integer>, Exception> result = Results.traverse(Arrays.asList("1", "x", "3"), s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        });
+
+        assertTrue(result.isErr());
+        assertInstanceOf(NumberFormatException.class, result.getError());
+        assertEquals("element 1", result.getMessage());
+        assertEquals(2, calls.get());
+        assertEquals(Arrays.asList(1, 2), Results.traverse(Arrays.asList("1", "2"), Integer::parseInt).unwrapOrThrow());
+    }
+
+    @Test
+    void testTraverseAccumulating_collectsAllErrors() {
+        Result<List<Integer>, List<Exception>> result =
+                Results.traverseAccumulating(Arrays.asList("x", "2", "y"), Integer::parseInt);
+
+        assertTrue(result.isErr());
+        assertEquals(2, result.getError().size());
+        assertEquals(Arrays.asList(2, 3),
+                Results.traverseAccumulating(Arrays.asList("2", "3"), Integer::parseInt).unwrapOrThrow());
+    }
+
+    // ====== Sequencing ======
+
+    @Test
+    void testSequence_allOk() {
+        List<Result<Integer, String>> results = Arrays.asList(Result.ok(1), Result.ok(2), Result.ok(3));
+
+        assertEquals(Arrays.asList(1, 2, 3), Results.sequence(results).unwrapOrThrow());
+        assertTrue(Results.<Integer, String>sequence(Collections.emptyList()).unwrapOrThrow().isEmpty());
+    }
+
+    @Test
+    void testSequence_firstErrorOrNoneWins() {
+        List<Result<Integer, String>> withErr = Arrays.asList(Result.ok(1), Result.err("bad", "field b"), Result.err("worse"));
+        Result<List<Integer>, String> failed = Results.sequence(withErr);
+
+        assertEquals("bad", failed.getError());
+        assertEquals("element 1: field b", failed.getMessage());
+        assertTrue(Results.sequence(Arrays.asList(Result.<Integer, String>none(), Result.err("bad"))).isNone());
+    }
+
+    @Test
+    void testSequenceAccumulating() {
+        List<Result<Integer, String>> results = Arrays.asList(Result.err("a"), Result.ok(1), Result.none(), Result.err("b"));
+
+        assertEquals(Arrays.asList("a", "b"), Results.sequenceAccumulating(results).getError());
+        assertEquals(Collections.singletonList(1),
+                Results.sequenceAccumulating(Arrays.asList(Result.<Integer, String>ok(1), Result.none())).unwrapOrThrow());
+    }
+
+    // ====== Zipping ======
+
+    @Test
+    void testZip_combinesOkValues() {
+        Result<Integer, String> a = Result.ok(1);
+        Result<String, String> b = Result.ok("b");
+        Result<Boolean, String> c = Result.ok(true);
+        Result<Long, String> d = Result.ok(4L);
+
+        assertEquals("1b", Results.zip(a, b, (x, y) -> x + y).unwrapOrThrow());
+        assertEquals("1btrue", Results.zip(a, b, c, (x, y, z) -> x + y + z).unwrapOrThrow());
+        assertEquals("1btrue4", Results.zip(a, b, c, d, (w, x, y, z) -> w + x + y + z).unwrapOrThrow());
+        assertEquals(Arrays.asList(1, 2), Results.zipAll(Result.<Integer, String>ok(1), Result.ok(2)).unwrapOrThrow());
+    }
+
+    @Test
+    void testZip_returnsFirstFailureInArgumentOrder() {
+        AtomicInteger combined = new AtomicInteger();
+        Result<Integer, String> zipped = Results.zip(Result.<Integer, String>ok(1), Result.<Integer, String>err("b"),
+                Result.<Integer, String>err("c"), (x, y, z) -> combined.incrementAndGet());
+
+        assertEquals("b", zipped.getError());
+        assertEquals(0, combined.get());
+        assertTrue(Results.zip(Result.<Integer, String>none(), Result.<Integer, String>err("b"), Integer::sum).isNone());
+    }
+
+    @Test
+    void testZipAccumulating() {
+        Result<Integer, List<String>> zipped = Results.zipAccumulating(Result.<Integer, String>err("a"),
+                Result.<Integer, String>ok(2), Result.<Integer, String>none(), Result.<Integer, String>err("d"),
+                (w, x, y, z) -> w + x + y + z);
+
+        assertEquals(Arrays.asList("a", "d"), zipped.getError());
+        assertEquals(3, Results.zipAccumulating(Result.<Integer, String>ok(1), Result.<Integer, String>ok(2), Integer::sum)
+                .unwrapOrThrow());
+        assertTrue(Results.zipAccumulating(Result.<Integer, String>ok(1), Result.<Integer, String>none(),
+                Result.<Integer, String>ok(3), (x, y, z) -> x + y + z).isNone());
+    }
+
+    private static <T> Iterator<T> counting(List<T> items, AtomicInteger pulled) {
+        Iterator<T> delegate = items.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public T next() {
+                pulled.incrementAndGet();
+                return delegate.next();
+            }
+        };
+    }
+}
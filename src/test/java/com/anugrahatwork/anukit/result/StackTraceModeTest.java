@@ -0,0 +1,69 @@
+package com.anugrahatwork.anukit.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StackTraceModeTest {
+
+    @AfterEach
+    void restoreDefault() {
+        StackTraceMode.setDefault(StackTraceMode.FULL);
+    }
+
+    @Test
+    void testFullAndNone() {
+        assertTrue(StackTraceMode.FULL.capture());
+        assertFalse(StackTraceMode.NONE.capture());
+    }
+
+    @Test
+    void testSampled() {
+        assertSame(StackTraceMode.FULL, StackTraceMode.sampled(1));
+        assertThrows(IllegalArgumentException.class, () -> StackTraceMode.sampled(0));
+
+        StackTraceMode mode = StackTraceMode.sampled(10);
+        int captured = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (mode.capture()) captured++;
+        }
+        assertTrue(captured > 500 && captured < 1500, "captured " + captured);
+    }
+
+    @Test
+    void testParse() {
+        assertSame(StackTraceMode.FULL, StackTraceMode.parse(null));
+        assertSame(StackTraceMode.FULL, StackTraceMode.parse("full"));
+        assertSame(StackTraceMode.NONE, StackTraceMode.parse("NONE"));
+        assertEquals("sampled:100", StackTraceMode.parse("sampled:100").toString());
+        assertSame(StackTraceMode.FULL, StackTraceMode.parse("sampled:abc"));
+        assertSame(StackTraceMode.FULL, StackTraceMode.parse("garbage"));
+    }
+
+    @Test
+    void testDefaultAppliesToPropagateErrorException() {
+        assertTrue(new PropagateErrorException("with trace").getStackTrace().length > 0);
+
+        StackTraceMode.setDefault(StackTraceMode.NONE);
+        assertEquals(0, new PropagateErrorException("stackless").getStackTrace().length);
+        assertEquals(0, assertThrows(RuntimeException.class,
+                Result.err("bad")::unwrapOrThrow).getStackTrace().length);
+    }
+
+    @Test
+    void testPerCallModeOverridesDefault() {
+        Result<String, String> result = Result.err("bad", "context");
+
+        RuntimeException stackless = assertThrows(RuntimeException.class,
+                () -> result.unwrapOrThrow(null, StackTraceMode.NONE));
+        assertEquals(0, stackless.getStackTrace().length);
+        assertEquals("context: bad", stackless.getMessage());
+
+        StackTraceMode.setDefault(StackTraceMode.NONE);
+        RuntimeException full = assertThrows(RuntimeException.class,
+                () -> result.unwrapOrThrow("override", StackTraceMode.FULL));
+        assertTrue(full.getStackTrace().length > 0);
+        assertEquals("override: context: bad", full.getMessage());
+    }
+}